@@ -0,0 +1,16 @@
+package com.redstonetorch.dongbaekro.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WaypointStrategy {
+	EVEN_SPACING("균등 간격"),
+	TYPE_WEIGHTED("시설 종류 가중치"),
+	DENSITY("시설 밀집"),
+	MIN_DETOUR("최소 우회"),
+	DETOUR_BUDGET("추가 거리 제한");
+
+	private final String description;
+}
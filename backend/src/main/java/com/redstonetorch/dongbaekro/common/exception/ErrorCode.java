@@ -17,6 +17,7 @@ public enum ErrorCode {
 	GLOBAL_MISSING_PARAMETER("GLOBAL_0006", "필수 요청 파라미터가 누락되었습니다.", HttpStatus.BAD_REQUEST),
 	GLOBAL_MISSING_HEADER("GLOBAL_0007", "필수 요청 헤더가 누락되었습니다.", HttpStatus.BAD_REQUEST),
 	GLOBAL_INTERNAL_SERVER_ERROR("GLOBAL_0008", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+	GLOBAL_REQUEST_TIMEOUT("GLOBAL_0009", "요청 처리 시간이 초과되었습니다.", HttpStatus.SERVICE_UNAVAILABLE),
 
 	// Auth - Authentication & Authorization (401)
 	AUTH_INVALID_EMAIL("AUTH_1001", "잘못된 이메일입니다.", HttpStatus.UNAUTHORIZED),
@@ -33,7 +34,25 @@ public enum ErrorCode {
 	AUTH_USER_NOT_FOUND("AUTH_1008", "해당하는 사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
 	// Emergency Report - Not Found (404)
-	EMERGENCY_REPORT_NOT_FOUND("EMERGENCY_2001", "해당하는 긴급 신고를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+	EMERGENCY_REPORT_NOT_FOUND("EMERGENCY_2001", "해당하는 긴급 신고를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+	// Location - Kakao API (502, 503)
+	LOCATION_KAKAO_API_ERROR("LOCATION_3001", "카카오 API 호출 중 오류가 발생했습니다.", HttpStatus.BAD_GATEWAY),
+	LOCATION_KAKAO_API_UNAVAILABLE("LOCATION_3002", "카카오 API를 일시적으로 사용할 수 없습니다.",
+		HttpStatus.SERVICE_UNAVAILABLE),
+	LOCATION_KAKAO_API_BUSY("LOCATION_3003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+		HttpStatus.SERVICE_UNAVAILABLE),
+	LOCATION_KAKAO_RATE_LIMITED("LOCATION_3004", "카카오 API 호출 한도에 도달했습니다. 잠시 후 다시 시도해 주세요.",
+		HttpStatus.TOO_MANY_REQUESTS),
+
+	// Location - Bad Request (400)
+	LOCATION_INVALID_POLYLINE("LOCATION_3005", "경로 좌표 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
+	// Location - Local Routing (503)
+	LOCATION_LOCAL_ROUTING_UNAVAILABLE("LOCATION_3006", "도보 경로 탐색을 사용할 수 없습니다.",
+		HttpStatus.SERVICE_UNAVAILABLE),
+	LOCATION_LOCAL_ROUTING_BUSY("LOCATION_3007", "경로 탐색 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+		HttpStatus.SERVICE_UNAVAILABLE);
 
 	private final String code;
 	private final String message;
@@ -11,6 +11,7 @@ import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import com.redstonetorch.dongbaekro.common.dto.response.ApiResponse;
 import com.redstonetorch.dongbaekro.common.dto.response.ErrorDetail;
@@ -125,6 +126,20 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(ErrorCode.GLOBAL_MISSING_HEADER.getStatus()).body(response);
 	}
 
+	// 비동기 응답(CompletableFuture)이 spring.mvc.async.request-timeout 안에 완료되지 않은 경우
+	@ExceptionHandler(AsyncRequestTimeoutException.class)
+	public ResponseEntity<ApiResponse<ErrorDetail>> handleAsyncRequestTimeoutException(
+		AsyncRequestTimeoutException e) {
+		log.error("AsyncRequestTimeoutException occurred: {}", e.getMessage());
+
+		ErrorDetail errorDetail = new ErrorDetail(ErrorCode.GLOBAL_REQUEST_TIMEOUT.getCode());
+
+		ApiResponse<ErrorDetail> response = ApiResponse.error(ErrorCode.GLOBAL_REQUEST_TIMEOUT.getMessage(),
+			errorDetail);
+
+		return ResponseEntity.status(ErrorCode.GLOBAL_REQUEST_TIMEOUT.getStatus()).body(response);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiResponse<ErrorDetail>> handleException(Exception e) {
 		log.error("Unexpected exception occurred: {}", e.getMessage(), e);
@@ -0,0 +1,49 @@
+package com.redstonetorch.dongbaekro.common.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+// 응답이 필요 없어진 외부 HTTP 호출(헤지에서 진 쪽)을 소켓 읽기 중에도 끊기 위한 연결 고리
+// run으로 호출을 감싸면 그 스레드에서 요청 팩토리가 만든 Apache 요청(HttpUriRequestBase)이 register로 등록되고,
+// cancel은 그 요청의 cancel()로 커넥션을 닫는다. (스레드 인터럽트로는 Apache classic 클라이언트의 읽기가 멈추지 않음)
+public final class HttpRequestCancellation {
+
+	private static final ThreadLocal<HttpRequestCancellation> CURRENT = new ThreadLocal<>();
+	private static final Cancellable CANCELLED = () -> false;
+
+	private final AtomicReference<Cancellable> request = new AtomicReference<>();
+
+	public <T> T run(Supplier<T> call) {
+		CURRENT.set(this);
+		try {
+			return call.get();
+		} finally {
+			CURRENT.remove();
+		}
+	}
+
+	// 요청 팩토리에서 호출, run 밖의 요청은 무시
+	public static void register(Cancellable httpRequest) {
+		HttpRequestCancellation cancellation = CURRENT.get();
+		if (cancellation != null) {
+			cancellation.attach(httpRequest);
+		}
+	}
+
+	// 이미 취소됐으면 요청을 보내기 전에 바로 취소
+	private void attach(Cancellable httpRequest) {
+		Cancellable previous = request.getAndUpdate(current -> current == CANCELLED ? CANCELLED : httpRequest);
+		if (previous == CANCELLED) {
+			httpRequest.cancel();
+		}
+	}
+
+	public void cancel() {
+		Cancellable previous = request.getAndSet(CANCELLED);
+		if (previous != null && previous != CANCELLED) {
+			previous.cancel();
+		}
+	}
+}
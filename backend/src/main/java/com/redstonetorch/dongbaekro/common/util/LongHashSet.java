@@ -0,0 +1,100 @@
+package com.redstonetorch.dongbaekro.common.util;
+
+// long 키 전용 해시 집합 (open addressing, linear probing)
+// HashSet<Long>과 달리 키를 박싱하지 않고 하나의 long[]에 저장한다.
+public final class LongHashSet {
+
+	private static final long EMPTY = 0L;
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private long[] keys;
+	private int mask;
+	private int size;
+	private boolean containsEmptyKey;
+
+	public LongHashSet() {
+		this(16);
+	}
+
+	public LongHashSet(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, (int)(expectedSize / LOAD_FACTOR)) - 1) << 1;
+		this.keys = new long[capacity];
+		this.mask = capacity - 1;
+	}
+
+	// 새로 추가되었으면 true
+	public boolean add(long key) {
+		if (key == EMPTY) {
+			if (containsEmptyKey) {
+				return false;
+			}
+			containsEmptyKey = true;
+			size++;
+			return true;
+		}
+
+		int index = indexOf(key);
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+
+		keys[index] = key;
+		size++;
+		if (size > keys.length * LOAD_FACTOR) {
+			resize();
+		}
+		return true;
+	}
+
+	public boolean contains(long key) {
+		if (key == EMPTY) {
+			return containsEmptyKey;
+		}
+
+		int index = indexOf(key);
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private int indexOf(long key) {
+		// MurmurHash3 fmix64로 연속된 ID도 고르게 분산
+		long hash = key;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return (int)hash & mask;
+	}
+
+	private void resize() {
+		long[] oldKeys = keys;
+		keys = new long[oldKeys.length << 1];
+		mask = keys.length - 1;
+		for (long key : oldKeys) {
+			if (key != EMPTY) {
+				int index = indexOf(key);
+				while (keys[index] != EMPTY) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = key;
+			}
+		}
+	}
+}
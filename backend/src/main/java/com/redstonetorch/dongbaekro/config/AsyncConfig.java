@@ -0,0 +1,83 @@
+package com.redstonetorch.dongbaekro.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 외부 API 호출 전용 스레드 풀
+// 요청 처리(Tomcat) 스레드는 카카오 응답을 기다리는 동안 반환되고, 대기는 이 풀에서만 발생한다.
+// spring.threads.virtual.enabled=true (Java 21 이상)이면 풀 대신 호출마다 가상 스레드를 사용한다.
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+	@Bean
+	public AsyncTaskExecutor kakaoTaskExecutor(
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+		@Value("${kakao.executor.core-size:16}") int coreSize,
+		@Value("${kakao.executor.max-size:64}") int maxSize,
+		@Value("${kakao.executor.queue-capacity:500}") int queueCapacity) {
+		if (virtualThreads) {
+			log.info("Using virtual threads for outbound Kakao calls");
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kakao-");
+			executor.setVirtualThreads(true);
+			// 가상 스레드는 개수 제한이 없으므로 동시 호출 수만 커넥션 풀 크기 수준으로 제한
+			// 제한에 걸리면 기다리지 않고 거절 (실행 중인 작업의 후속 단계가 다시 제출하며 서로 기다리는 것을 방지)
+			executor.setConcurrencyLimit(maxSize);
+			executor.setRejectTasksWhenLimitReached(true);
+			executor.setTaskTerminationTimeout(10_000);
+			return executor;
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("kakao-");
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		return executor;
+	}
+
+	// 로컬 보행 경로 탐색(safe-route.provider=local) 전용 스레드
+	// CPU 작업이므로 코어 수만큼만 동시에 실행하고, 스레드마다 그래프 크기의 탐색 배열을 재사용한다.
+	@Bean
+	public AsyncTaskExecutor localRoutingExecutor(
+		@Value("${routing.local.threads:0}") int threads,
+		@Value("${routing.local.queue-capacity:200}") int queueCapacity) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("local-routing-");
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		return executor;
+	}
+
+	// 헤지 요청을 위해 카카오 HTTP 호출 자체를 실행하는 스레드
+	// 대기 큐 없이 스레드(가상 스레드는 동시 실행 수)가 모자라면 거절되고, 호출 측은 헤지 없이 직접 호출한다.
+	@Bean
+	public AsyncTaskExecutor kakaoHedgeExecutor(
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+		@Value("${kakao.hedging.max-threads:64}") int maxThreads) {
+		if (virtualThreads) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kakao-hedge-");
+			executor.setVirtualThreads(true);
+			executor.setConcurrencyLimit(maxThreads);
+			executor.setRejectTasksWhenLimitReached(true);
+			return executor;
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("kakao-hedge-");
+		executor.setCorePoolSize(0);
+		executor.setMaxPoolSize(maxThreads);
+		executor.setQueueCapacity(0);
+		return executor;
+	}
+}
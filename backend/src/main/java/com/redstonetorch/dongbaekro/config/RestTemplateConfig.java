@@ -1,14 +1,123 @@
 package com.redstonetorch.dongbaekro.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.redstonetorch.dongbaekro.common.util.HttpRequestCancellation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+
+// 외부(카카오) API 호출용 HTTP 클라이언트
+// 기본은 Apache HttpClient 커넥션 풀(keep-alive, 호스트별 풀), kakao.http.client=jdk 이면 JDK HttpClient(HTTP/2)를 사용한다.
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
+	@Value("${kakao.http.client:apache}")
+	private String clientType;
+
+	@Value("${kakao.http.max-connections-total:100}")
+	private int maxConnectionsTotal;
+
+	@Value("${kakao.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${kakao.http.connect-timeout:2s}")
+	private Duration connectTimeout;
+
+	@Value("${kakao.http.read-timeout:5s}")
+	private Duration readTimeout;
+
+	// 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+	@Value("${kakao.http.connection-request-timeout:1s}")
+	private Duration connectionRequestTimeout;
+
+	@Value("${kakao.http.keep-alive:30s}")
+	private Duration keepAlive;
+
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public ClientHttpRequestFactory clientHttpRequestFactory(MeterRegistry meterRegistry) {
+		if ("jdk".equalsIgnoreCase(clientType)) {
+			log.info("Using JDK HttpClient (HTTP/2) for outbound requests");
+			return createJdkRequestFactory();
+		}
+		return createPooledRequestFactory(meterRegistry);
+	}
+
+	@Bean
+	public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+		ClientHttpRequestFactory clientHttpRequestFactory) {
+		// RestTemplateBuilder를 통해 http.client.requests 관측 지표도 함께 적용
+		return restTemplateBuilder
+			.requestFactory(() -> clientHttpRequestFactory)
+			.build();
+	}
+
+	private ClientHttpRequestFactory createPooledRequestFactory(MeterRegistry meterRegistry) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxConnectionsTotal)
+			.setMaxConnPerRoute(maxConnectionsPerRoute)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+				.setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+				.setTimeToLive(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+				.build())
+			.build();
+
+		// httpcomponents.httpclient.pool.total.connections{state=leased|available}, pool.total.pending 등
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "kakao").bindTo(meterRegistry);
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+				.setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+				.build())
+			.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+			.build();
+
+		// 헤지에서 진 호출을 커넥션 종료로 중단할 수 있도록 요청마다 취소 대상으로 등록
+		return new HttpComponentsClientHttpRequestFactory(httpClient) {
+			@Override
+			protected void postProcessHttpRequest(ClassicHttpRequest request) {
+				if (request instanceof Cancellable cancellable) {
+					HttpRequestCancellation.register(cancellable);
+				}
+			}
+		};
+	}
+
+	private ClientHttpRequestFactory createJdkRequestFactory() {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(connectTimeout)
+			.build();
+
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(readTimeout);
+		return requestFactory;
 	}
-}
\ No newline at end of file
+}
@@ -1,24 +1,31 @@
 package com.redstonetorch.dongbaekro.location.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.redstonetorch.dongbaekro.common.dto.response.ApiResponse;
 import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.dto.request.RouteScoreRequest;
 import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
 import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
 import com.redstonetorch.dongbaekro.location.dto.request.WalkingDirectionsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.RouteScoreResponse;
 import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
 import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
 import com.redstonetorch.dongbaekro.location.service.KakaoLocationService;
+import com.redstonetorch.dongbaekro.location.service.RouteScoreService;
 import com.redstonetorch.dongbaekro.location.service.SafeRouteService;
 import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -29,6 +36,7 @@ public class SafetyFacilityController {
 	private final SafetyFacilityService safetyFacilityService;
 	private final KakaoLocationService kakaoLocationService;
 	private final SafeRouteService safeRouteService;
+	private final RouteScoreService routeScoreService;
 
 	@GetMapping("/by-code")
 	public ResponseEntity<ApiResponse<List<SafetyFacilityResponse>>> getSafetyFacilitiesByCode(
@@ -45,6 +53,17 @@ public class SafetyFacilityController {
 		return ResponseEntity.ok(ApiResponse.success(facilities));
 	}
 
+	@GetMapping("/nearby")
+	public ResponseEntity<ApiResponse<List<SafetyFacilityResponse>>> getNearbySafetyFacilities(
+		@RequestParam double latitude,
+		@RequestParam double longitude,
+		@RequestParam(defaultValue = "100") double radius,
+		@RequestParam(required = false) List<SafetyFacilityType> types) {
+		List<SafetyFacilityResponse> facilities = safetyFacilityService.findWithinRadius(
+			latitude, longitude, radius, types);
+		return ResponseEntity.ok(ApiResponse.success(facilities));
+	}
+
 	@GetMapping("/region-code")
 	public ResponseEntity<ApiResponse<String>> getRegionCodeFromCoordinates(
 		@RequestParam double latitude,
@@ -64,41 +83,45 @@ public class SafetyFacilityController {
 		@RequestParam(required = false) Boolean summary,
 		@RequestParam(required = false) Integer defaultSpeed) {
 
-		try {
-			WalkingDirectionsRequest request = new WalkingDirectionsRequest(
-				originLongitude, originLatitude,
-				destinationLongitude, destinationLatitude,
-				waypoints, priority, summary, defaultSpeed
-			);
-
-			KakaoWalkingDirectionsResponse directions = kakaoLocationService.getWalkingDirections(request);
-			return ResponseEntity.ok(ApiResponse.success(directions));
-		} catch (RuntimeException e) {
-			return ResponseEntity.internalServerError()
-				.body(ApiResponse.error(e.getMessage(), null));
-		}
+		WalkingDirectionsRequest request = new WalkingDirectionsRequest(
+			originLongitude, originLatitude,
+			destinationLongitude, destinationLatitude,
+			waypoints, priority, summary, defaultSpeed
+		);
+
+		// 카카오 호출 실패는 GlobalExceptionHandler에서 ErrorCode의 상태 코드(502/503)로 응답
+		KakaoWalkingDirectionsResponse directions = kakaoLocationService.getWalkingDirections(request);
+		return ResponseEntity.ok(ApiResponse.success(directions));
 	}
 
+	// 카카오 응답을 기다리는 동안 요청 스레드를 반환하고, 완료 시 비동기 디스패치로 응답
+	// 실패한 future는 GlobalExceptionHandler로 전달된다.
 	@GetMapping("/safe-route")
-	public ResponseEntity<ApiResponse<SafeRouteResponse>> generateSafeRoute(
+	public CompletableFuture<ResponseEntity<ApiResponse<SafeRouteResponse>>> generateSafeRoute(
 		@RequestParam double originLatitude,
 		@RequestParam double originLongitude,
 		@RequestParam double destinationLatitude,
 		@RequestParam double destinationLongitude,
-		@RequestParam(required = false) List<SafetyFacilityType> preferredFacilityTypes) {
-
-		try {
-			SafeRouteRequest request = new SafeRouteRequest(
-				originLatitude, originLongitude,
-				destinationLatitude, destinationLongitude,
-				preferredFacilityTypes
-			);
-
-			SafeRouteResponse safeRoute = safeRouteService.generateSafeRoute(request);
-			return ResponseEntity.ok(ApiResponse.success(safeRoute));
-		} catch (RuntimeException e) {
-			return ResponseEntity.internalServerError()
-				.body(ApiResponse.error(e.getMessage(), null));
-		}
+		@RequestParam(required = false) List<SafetyFacilityType> preferredFacilityTypes,
+		@RequestParam(required = false) Integer maxDetourMeters,
+		@RequestParam(required = false) Integer maxDetourSeconds) {
+
+		SafeRouteRequest request = new SafeRouteRequest(
+			originLatitude, originLongitude,
+			destinationLatitude, destinationLongitude,
+			preferredFacilityTypes,
+			maxDetourMeters, maxDetourSeconds
+		);
+
+		return safeRouteService.generateSafeRoute(request)
+			.thenApply(safeRoute -> ResponseEntity.ok(ApiResponse.success(safeRoute)));
+	}
+
+	// 경로(카카오 vertexes 또는 encoded polyline)별 안전시설 커버리지, 최장 공백 구간, 시설 수
+	@PostMapping("/route-score")
+	public ResponseEntity<ApiResponse<List<RouteScoreResponse>>> scoreRoutes(
+		@Valid @RequestBody RouteScoreRequest request) {
+		List<RouteScoreResponse> scores = routeScoreService.scoreRoutes(request);
+		return ResponseEntity.ok(ApiResponse.success(scores));
 	}
 }
\ No newline at end of file
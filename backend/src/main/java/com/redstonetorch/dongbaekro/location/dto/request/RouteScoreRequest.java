@@ -0,0 +1,32 @@
+package com.redstonetorch.dongbaekro.location.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record RouteScoreRequest(
+	@NotEmpty
+	@Size(max = 50)
+	@Valid
+	List<RouteInput> routes,
+
+	// 시설이 경로를 덮는 것으로 보는 반경(미터), 미지정 시 safe-route.coverage.radius-meters
+	@Positive
+	@Max(500)
+	Double radius
+) {
+	// vertexes(카카오 형식 [lng, lat, lng, lat, ...])와 encodedPolyline 중 하나만 지정
+	public record RouteInput(
+		double[] vertexes,
+		String encodedPolyline,
+		@Min(5)
+		@Max(6)
+		Integer precision
+	) {
+	}
+}
@@ -8,7 +8,10 @@ public record SafeRouteRequest(
 	double originLongitude,
 	double destinationLatitude,
 	double destinationLongitude,
-	List<SafetyFacilityType> preferredFacilityTypes
+	List<SafetyFacilityType> preferredFacilityTypes,
+	// 기본 경로 대비 허용하는 추가 거리(미터)/시간(초), 둘 다 없으면 제한 없음
+	Integer maxDetourMeters,
+	Integer maxDetourSeconds
 ) {
 	public String getOriginCoordinates() {
 		return originLongitude + "," + originLatitude;
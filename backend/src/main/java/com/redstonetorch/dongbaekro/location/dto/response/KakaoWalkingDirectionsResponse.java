@@ -32,10 +32,11 @@ public record KakaoWalkingDirectionsResponse(
 	) {
 	}
 
+	// vertexes: [lng, lat, lng, lat, ...], 박싱 없이 기본형 배열로 역직렬화
 	public record Road(
 		int distance,
 		int duration,
-		List<Double> vertexes
+		double[] vertexes
 	) {
 	}
 }
\ No newline at end of file
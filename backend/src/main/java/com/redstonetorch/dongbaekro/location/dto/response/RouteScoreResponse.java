@@ -0,0 +1,23 @@
+package com.redstonetorch.dongbaekro.location.dto.response;
+
+import java.util.List;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+
+public record RouteScoreResponse(
+	// 요청의 routes 순서
+	int index,
+	int distance,
+	// 어떤 시설이든 반경 안에 있는 경로 비율(%)과 가장 긴 공백 구간(m)
+	double coveragePercent,
+	int longestGap,
+	List<TypeScore> types
+) {
+	public record TypeScore(
+		SafetyFacilityType type,
+		double coveragePercent,
+		int longestGap,
+		int facilityCount
+	) {
+	}
+}
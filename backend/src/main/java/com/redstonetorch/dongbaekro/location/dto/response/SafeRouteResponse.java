@@ -2,11 +2,22 @@ package com.redstonetorch.dongbaekro.location.dto.response;
 
 import java.util.List;
 
+import com.redstonetorch.dongbaekro.common.enums.WaypointStrategy;
+
 public record SafeRouteResponse(
 	KakaoWalkingDirectionsResponse originalRoute,
 	List<SafetyFacilityResponse> selectedWaypoints,
 	KakaoWalkingDirectionsResponse safeRoute,
-	RouteComparison comparison
+	RouteComparison comparison,
+	// 카카오 장애로 경유지 경로 없이 기본 경로만 응답한 경우 true
+	boolean degraded,
+	// safeRoute를 만든 경유지 선택 전략과 선호 시설 반경 안을 지나는 비율(%), 후보 비교를 하지 않았으면 null
+	WaypointStrategy strategy,
+	Double coveragePercent,
+	// safeRoute 다음으로 안전도 점수가 높은 후보 경로들 (점수 내림차순)
+	List<RouteAlternative> alternatives,
+	// 추가 거리/시간 제한 안에 드는 경유지 경로가 없어 기본 경로를 safeRoute로 응답한 경우 true
+	boolean detourBudgetExceeded
 ) {
 	public record RouteComparison(
 		int originalDistance,
@@ -18,4 +29,14 @@ public record SafeRouteResponse(
 		int safetyFacilitiesCount
 	) {
 	}
-}
\ No newline at end of file
+
+	public record RouteAlternative(
+		WaypointStrategy strategy,
+		double coveragePercent,
+		double score,
+		List<SafetyFacilityResponse> selectedWaypoints,
+		KakaoWalkingDirectionsResponse route,
+		RouteComparison comparison
+	) {
+	}
+}
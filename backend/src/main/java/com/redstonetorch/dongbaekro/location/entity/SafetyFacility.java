@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "safety_facilities")
+@Table(name = "safety_facilities", indexes = {
+	@Index(name = "idx_safety_facilities_lat_lng", columnList = "latitude, longitude"),
+	@Index(name = "idx_safety_facilities_type_lat_lng", columnList = "type, latitude, longitude")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SafetyFacility {
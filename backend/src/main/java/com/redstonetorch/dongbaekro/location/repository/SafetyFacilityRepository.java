@@ -9,6 +9,7 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
 import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
 
 @RepositoryRestResource(exported = false)
 public interface SafetyFacilityRepository extends JpaRepository<SafetyFacility, Long> {
@@ -16,21 +17,95 @@ public interface SafetyFacilityRepository extends JpaRepository<SafetyFacility,
 	List<SafetyFacility> findByCodeAndType(String code, SafetyFacilityType type);
 
 	@Query("""
-		SELECT sf FROM SafetyFacility sf 
-		WHERE (6371000 * acos(
-			cos(radians(:latitude)) * cos(radians(sf.latitude)) * 
-			cos(radians(sf.longitude) - radians(:longitude)) + 
+		SELECT new com.redstonetorch.dongbaekro.location.spatial.FacilityPoint(
+			sf.id, sf.type, sf.latitude, sf.longitude
+		)
+		FROM SafetyFacility sf
+		""")
+	List<FacilityPoint> findAllFacilityPoints();
+
+	// (latitude, longitude) 복합 인덱스로 반경을 감싸는 사각형 범위만 스캔한 뒤, 남은 행에만 구면 거리 계산
+	@Query("""
+		SELECT sf FROM SafetyFacility sf
+		WHERE sf.latitude BETWEEN :minLatitude AND :maxLatitude
+		AND sf.longitude BETWEEN :minLongitude AND :maxLongitude
+		AND (6371000 * acos(
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
 			sin(radians(:latitude)) * sin(radians(sf.latitude))
 		)) <= :radiusMeters
 		ORDER BY (6371000 * acos(
-			cos(radians(:latitude)) * cos(radians(sf.latitude)) * 
-			cos(radians(sf.longitude) - radians(:longitude)) + 
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
 			sin(radians(:latitude)) * sin(radians(sf.latitude))
 		))
 		""")
 	List<SafetyFacility> findFacilitiesWithinRadius(
+		@Param("latitude") double latitude,
+		@Param("longitude") double longitude,
+		@Param("radiusMeters") double radiusMeters,
+		@Param("minLatitude") double minLatitude,
+		@Param("maxLatitude") double maxLatitude,
+		@Param("minLongitude") double minLongitude,
+		@Param("maxLongitude") double maxLongitude
+	);
+
+	// (type, latitude, longitude) 복합 인덱스로 선호 타입의 사각형 범위만 스캔
+	@Query("""
+		SELECT sf FROM SafetyFacility sf
+		WHERE sf.type IN :types
+		AND sf.latitude BETWEEN :minLatitude AND :maxLatitude
+		AND sf.longitude BETWEEN :minLongitude AND :maxLongitude
+		AND (6371000 * acos(
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
+			sin(radians(:latitude)) * sin(radians(sf.latitude))
+		)) <= :radiusMeters
+		ORDER BY (6371000 * acos(
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
+			sin(radians(:latitude)) * sin(radians(sf.latitude))
+		))
+		""")
+	List<SafetyFacility> findFacilitiesWithinRadiusAndTypes(
+		@Param("latitude") double latitude,
+		@Param("longitude") double longitude,
+		@Param("radiusMeters") double radiusMeters,
+		@Param("minLatitude") double minLatitude,
+		@Param("maxLatitude") double maxLatitude,
+		@Param("minLongitude") double minLongitude,
+		@Param("maxLongitude") double maxLongitude,
+		@Param("types") List<SafetyFacilityType> types
+	);
+
+	// MySQL 공간 인덱스 경로: envelope(MBR)으로 후보를 좁힌 뒤 ST_Distance_Sphere로 정확한 거리 판정
+	// envelope은 SRID 4326 축 순서(위도 경도)의 POLYGON WKT
+	@Query(value = """
+		SELECT sf.* FROM safety_facilities sf
+		WHERE MBRContains(ST_GeomFromText(:envelope, 4326), sf.location)
+		AND ST_Distance_Sphere(sf.location, ST_SRID(POINT(:latitude, :longitude), 4326)) <= :radiusMeters
+		ORDER BY ST_Distance_Sphere(sf.location, ST_SRID(POINT(:latitude, :longitude), 4326))
+		""", nativeQuery = true)
+	List<SafetyFacility> findFacilitiesWithinRadiusSpatial(
+		@Param("envelope") String envelope,
 		@Param("latitude") double latitude,
 		@Param("longitude") double longitude,
 		@Param("radiusMeters") double radiusMeters
 	);
+
+	// types는 SafetyFacilityType.name() 목록
+	@Query(value = """
+		SELECT sf.* FROM safety_facilities sf
+		WHERE MBRContains(ST_GeomFromText(:envelope, 4326), sf.location)
+		AND sf.type IN (:types)
+		AND ST_Distance_Sphere(sf.location, ST_SRID(POINT(:latitude, :longitude), 4326)) <= :radiusMeters
+		ORDER BY ST_Distance_Sphere(sf.location, ST_SRID(POINT(:latitude, :longitude), 4326))
+		""", nativeQuery = true)
+	List<SafetyFacility> findFacilitiesWithinRadiusSpatialAndTypes(
+		@Param("envelope") String envelope,
+		@Param("latitude") double latitude,
+		@Param("longitude") double longitude,
+		@Param("radiusMeters") double radiusMeters,
+		@Param("types") List<String> types
+	);
 }
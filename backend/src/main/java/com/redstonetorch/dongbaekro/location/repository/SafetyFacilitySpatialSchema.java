@@ -0,0 +1,94 @@
+package com.redstonetorch.dongbaekro.location.repository;
+
+import java.sql.Connection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// safety_facilities 테이블에 POINT SRID 4326 컬럼과 SPATIAL INDEX를 준비한다. (MySQL 전용)
+// location 컬럼은 latitude/longitude로부터 계산되는 STORED 생성 컬럼이라 기존 행은 ALTER 시점에 채워지고,
+// 이후 JPA의 INSERT/UPDATE에서도 별도 매핑 없이 자동으로 동기화된다.
+// MySQL이 아니거나(H2 등) 준비에 실패하면 JPQL 반경 검색을 사용한다.
+@Slf4j
+@Component
+public class SafetyFacilitySpatialSchema {
+
+	private static final String TABLE_NAME = "safety_facilities";
+	private static final String COLUMN_NAME = "location";
+	private static final String INDEX_NAME = "idx_safety_facilities_location";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+
+	private volatile boolean available = false;
+
+	public SafetyFacilitySpatialSchema(JdbcTemplate jdbcTemplate,
+		@Value("${safety-facility.spatial-index.enabled:true}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (!enabled || !isMySql()) {
+			log.info("MySQL spatial index disabled, falling back to JPQL radius search");
+			return;
+		}
+
+		try {
+			if (!columnExists()) {
+				// SRID 4326(지리 좌표계)에서 MySQL은 위도-경도 축 순서를 사용한다.
+				jdbcTemplate.execute("""
+					ALTER TABLE safety_facilities
+					ADD COLUMN location POINT
+					GENERATED ALWAYS AS (ST_SRID(POINT(latitude, longitude), 4326)) STORED
+					NOT NULL SRID 4326
+					""");
+				log.info("Added spatial column {}.{}", TABLE_NAME, COLUMN_NAME);
+			}
+			if (!indexExists()) {
+				jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX_NAME + " ON " + TABLE_NAME + " (" + COLUMN_NAME + ")");
+				log.info("Created spatial index {}", INDEX_NAME);
+			}
+			available = true;
+		} catch (DataAccessException e) {
+			log.error("Failed to prepare spatial index, falling back to JPQL radius search: {}", e.getMessage());
+		}
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	private boolean isMySql() {
+		try {
+			String productName = jdbcTemplate.execute(
+				(Connection connection) -> connection.getMetaData().getDatabaseProductName());
+			return "MySQL".equalsIgnoreCase(productName);
+		} catch (DataAccessException e) {
+			return false;
+		}
+	}
+
+	private boolean columnExists() {
+		Integer count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.COLUMNS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+			""", Integer.class, TABLE_NAME, COLUMN_NAME);
+		return count != null && count > 0;
+	}
+
+	private boolean indexExists() {
+		Integer count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.STATISTICS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+			""", Integer.class, TABLE_NAME, INDEX_NAME);
+		return count != null && count > 0;
+	}
+}
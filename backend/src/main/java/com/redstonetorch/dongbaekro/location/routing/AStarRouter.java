@@ -0,0 +1,182 @@
+package com.redstonetorch.dongbaekro.location.routing;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+// PedestrianGraph 위의 A* 최단 비용 경로 탐색
+// 간선 비용은 costs[edge] (haversine 길이 × 안전 가중치, 항상 길이 이상)이고, 휴리스틱은 목적지까지의 haversine 거리이므로
+// 어떤 경로의 비용보다도 크지 않아(삼각 부등식) 최적 경로를 보장한다.
+// 노드 수만큼의 탐색 배열은 요청마다 새로 만들지 않고 풀에서 재사용하며, 방문 표시는 세대 번호로 초기화 없이 구분한다.
+final class AStarRouter {
+
+	// 간선 길이와 비용이 float로 저장되며 생기는 반올림 오차만큼 휴리스틱을 줄인다.
+	// (기준 위도 하나의 평면 근사는 기준 위도보다 극 쪽에서 동서 거리를 과대평가해, 위도 범위가 넓은 그래프에서 최적성을 깨뜨린다.)
+	private static final double HEURISTIC_SCALE = 0.9999;
+
+	private final PedestrianGraph graph;
+	private final float[] costs;
+	private final ConcurrentLinkedQueue<SearchState> pool = new ConcurrentLinkedQueue<>();
+
+	AStarRouter(PedestrianGraph graph, float[] costs) {
+		this.graph = graph;
+		this.costs = costs;
+	}
+
+	// source에서 target까지의 경로, 없으면 null
+	Path route(int source, int target) {
+		SearchState state = pool.poll();
+		if (state == null) {
+			state = new SearchState(graph.nodeCount());
+		}
+		try {
+			return search(state, source, target);
+		} finally {
+			pool.offer(state);
+		}
+	}
+
+	private Path search(SearchState state, int source, int target) {
+		int generation = state.nextGeneration();
+		double targetLatitude = graph.latitude(target);
+		double targetLongitude = graph.longitude(target);
+
+		state.open(source, 0.0, -1, -1, generation);
+		state.push(source, heuristic(source, targetLatitude, targetLongitude));
+
+		while (state.heapSize > 0) {
+			int node = state.pop();
+			if (state.closed[node] == generation) {
+				continue;
+			}
+			state.closed[node] = generation;
+			if (node == target) {
+				return state.path(graph, target);
+			}
+
+			double base = state.cost[node];
+			for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+				int next = graph.edgeTarget(edge);
+				if (state.closed[next] == generation) {
+					continue;
+				}
+				double candidate = base + costs[edge];
+				if (state.seen[next] != generation || candidate < state.cost[next]) {
+					state.open(next, candidate, node, edge, generation);
+					state.push(next, candidate + heuristic(next, targetLatitude, targetLongitude));
+				}
+			}
+		}
+		return null;
+	}
+
+	private double heuristic(int node, double targetLatitude, double targetLongitude) {
+		return GeoDistance.haversine(graph.latitude(node), graph.longitude(node), targetLatitude, targetLongitude)
+			* HEURISTIC_SCALE;
+	}
+
+	// nodes: 지나는 노드 순서, length: 실제로 지난 간선 길이의 합(미터), cost: 간선 비용의 합
+	record Path(int[] nodes, double length, double cost) {
+	}
+
+	// 탐색 한 번에 필요한 노드별 배열과 이진 힙 (더 좋은 비용을 찾으면 새로 넣고, 오래된 항목은 꺼낼 때 건너뜀)
+	private static final class SearchState {
+		private final double[] cost;
+		private final int[] parent;
+		// 노드에 도달한 간선 (같은 두 노드 사이 간선이 여러 개여도 탐색이 실제로 고른 간선)
+		private final int[] parentEdge;
+		private final int[] seen;
+		private final int[] closed;
+		private int generation;
+
+		private double[] heapKeys = new double[256];
+		private int[] heapNodes = new int[256];
+		private int heapSize;
+
+		private SearchState(int nodeCount) {
+			this.cost = new double[nodeCount];
+			this.parent = new int[nodeCount];
+			this.parentEdge = new int[nodeCount];
+			this.seen = new int[nodeCount];
+			this.closed = new int[nodeCount];
+		}
+
+		private int nextGeneration() {
+			heapSize = 0;
+			if (++generation == Integer.MAX_VALUE) {
+				Arrays.fill(seen, 0);
+				Arrays.fill(closed, 0);
+				generation = 1;
+			}
+			return generation;
+		}
+
+		private void open(int node, double nodeCost, int parentNode, int edge, int currentGeneration) {
+			seen[node] = currentGeneration;
+			cost[node] = nodeCost;
+			parent[node] = parentNode;
+			parentEdge[node] = edge;
+		}
+
+		private void push(int node, double key) {
+			if (heapSize == heapKeys.length) {
+				heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+				heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+			}
+			int index = heapSize++;
+			while (index > 0) {
+				int up = (index - 1) >>> 1;
+				if (heapKeys[up] <= key) {
+					break;
+				}
+				heapKeys[index] = heapKeys[up];
+				heapNodes[index] = heapNodes[up];
+				index = up;
+			}
+			heapKeys[index] = key;
+			heapNodes[index] = node;
+		}
+
+		private int pop() {
+			int top = heapNodes[0];
+			double key = heapKeys[--heapSize];
+			int node = heapNodes[heapSize];
+			int index = 0;
+			while (true) {
+				int child = index * 2 + 1;
+				if (child >= heapSize) {
+					break;
+				}
+				if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+					child++;
+				}
+				if (heapKeys[child] >= key) {
+					break;
+				}
+				heapKeys[index] = heapKeys[child];
+				heapNodes[index] = heapNodes[child];
+				index = child;
+			}
+			heapKeys[index] = key;
+			heapNodes[index] = node;
+			return top;
+		}
+
+		private Path path(PedestrianGraph graph, int target) {
+			int count = 0;
+			double length = 0.0;
+			for (int node = target; node >= 0; node = parent[node]) {
+				count++;
+				if (parentEdge[node] >= 0) {
+					length += graph.edgeLength(parentEdge[node]);
+				}
+			}
+			int[] nodes = new int[count];
+			for (int node = target; node >= 0; node = parent[node]) {
+				nodes[--count] = node;
+			}
+			return new Path(nodes, length, cost[target]);
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package com.redstonetorch.dongbaekro.location.routing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+import com.redstonetorch.dongbaekro.location.service.WalkingRouteProvider;
+import com.redstonetorch.dongbaekro.location.spatial.RoutePolyline;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 외부 API 없이 서버에 적재한 보행 도로망(GeoJSON)으로 경로를 찾는다. (safe-route.provider=local)
+// 간선 비용 = 길이 × (1 + penalty × (1 - 안전도)), 안전도는 간선 주변 안전시설 밀도(100m당 facilities-per-100m개면 1)
+// 이므로 같은 길이라면 시설이 많은 길을 우선한다. penalty=0이면 순수 최단 거리 경로이다.
+// 경유지가 있으면 구간마다 탐색해 카카오처럼 구간별 section으로 이어 붙인다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "safe-route.provider", havingValue = "local")
+public class LocalWalkingRouteProvider implements WalkingRouteProvider {
+
+	private static final String TRANS_ID = "local";
+	private static final int NO_ROUTE_RESULT_CODE = 1;
+	private static final String NO_ROUTE_MESSAGE = "경로를 찾을 수 없습니다.";
+
+	private final SafetyFacilityIndex safetyFacilityIndex;
+	private final ObjectMapper objectMapper;
+	private final Executor executor;
+	private final Timer routeTimer;
+	private final Resource graphFile;
+	private final double snapMeters;
+	private final double walkingSpeed;
+	private final double safetyRadiusMeters;
+	private final double facilitiesPer100m;
+	private final double safetyPenalty;
+
+	private volatile AStarRouter router;
+	private volatile PedestrianGraph graph;
+
+	public LocalWalkingRouteProvider(SafetyFacilityIndex safetyFacilityIndex, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry, @Qualifier("localRoutingExecutor") Executor executor,
+		@Value("${routing.local.graph-file}") Resource graphFile,
+		@Value("${routing.local.snap-meters:200}") double snapMeters,
+		@Value("${routing.local.walking-speed:1.1}") double walkingSpeed,
+		@Value("${routing.local.safety.radius-meters:30}") double safetyRadiusMeters,
+		@Value("${routing.local.safety.facilities-per-100m:2}") double facilitiesPer100m,
+		@Value("${routing.local.safety.penalty:1.0}") double safetyPenalty) {
+		this.safetyFacilityIndex = safetyFacilityIndex;
+		this.objectMapper = objectMapper;
+		this.executor = executor;
+		this.graphFile = graphFile;
+		this.snapMeters = snapMeters;
+		this.walkingSpeed = walkingSpeed;
+		this.safetyRadiusMeters = safetyRadiusMeters;
+		this.facilitiesPer100m = facilitiesPer100m;
+		this.safetyPenalty = safetyPenalty;
+		this.routeTimer = Timer.builder("routing.local.route")
+			.description("Local pedestrian route search time per request")
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long startedAt = System.nanoTime();
+		try (InputStream input = graphFile.getInputStream()) {
+			PedestrianGraph loaded = PedestrianGraphLoader.load(input, objectMapper);
+			float[] costs = computeSafetyCosts(loaded);
+			this.router = new AStarRouter(loaded, costs);
+			this.graph = loaded;
+			log.info("Pedestrian graph loaded from {}: {} nodes, {} edges in {}ms", graphFile.getDescription(),
+				loaded.nodeCount(), loaded.edgeCount(), (System.nanoTime() - startedAt) / 1_000_000);
+		} catch (IOException | RuntimeException e) {
+			// 그래프 적재에 실패해도 애플리케이션은 기동하고, 경로 요청은 503으로 응답한다.
+			log.error("Failed to load pedestrian graph from {}: {}", graphFile.getDescription(), e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<KakaoWalkingDirectionsResponse> findRoute(WalkingWaypointsRequest request) {
+		AStarRouter currentRouter = router;
+		PedestrianGraph currentGraph = graph;
+		if (currentRouter == null) {
+			return CompletableFuture.failedFuture(new CustomException(ErrorCode.LOCATION_LOCAL_ROUTING_UNAVAILABLE));
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(
+				() -> routeTimer.record(() -> route(currentGraph, currentRouter, request)), executor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new CustomException(ErrorCode.LOCATION_LOCAL_ROUTING_BUSY));
+		}
+	}
+
+	private KakaoWalkingDirectionsResponse route(PedestrianGraph currentGraph, AStarRouter currentRouter,
+		WalkingWaypointsRequest request) {
+		List<WalkingWaypointsRequest.Coordinate> points = new ArrayList<>();
+		points.add(request.origin());
+		if (request.waypoints() != null) {
+			points.addAll(request.waypoints());
+		}
+		points.add(request.destination());
+
+		int distance = 0;
+		List<KakaoWalkingDirectionsResponse.Section> sections = new ArrayList<>(points.size() - 1);
+		for (int i = 0; i + 1 < points.size(); i++) {
+			KakaoWalkingDirectionsResponse.Section section = routeSection(currentGraph, currentRouter,
+				points.get(i), points.get(i + 1));
+			if (section == null) {
+				return noRoute();
+			}
+			sections.add(section);
+			distance += section.distance();
+		}
+
+		return new KakaoWalkingDirectionsResponse(TRANS_ID, List.of(new KakaoWalkingDirectionsResponse.Route(
+			0, "길찾기 성공", new KakaoWalkingDirectionsResponse.Summary(distance, toDuration(distance)), sections)));
+	}
+
+	// 좌표를 가장 가까운 노드에 붙이고 그 사이를 탐색, 붙일 노드가 없거나 경로가 없으면 null
+	private KakaoWalkingDirectionsResponse.Section routeSection(PedestrianGraph currentGraph,
+		AStarRouter currentRouter, WalkingWaypointsRequest.Coordinate from, WalkingWaypointsRequest.Coordinate to) {
+		int source = currentGraph.nearestNode(from.y(), from.x(), snapMeters);
+		int target = currentGraph.nearestNode(to.y(), to.x(), snapMeters);
+		if (source < 0 || target < 0) {
+			return null;
+		}
+
+		AStarRouter.Path path = currentRouter.route(source, target);
+		if (path == null) {
+			return null;
+		}
+
+		int[] nodes = path.nodes();
+		double[] vertexes = new double[nodes.length * 2];
+		for (int i = 0; i < nodes.length; i++) {
+			vertexes[i * 2] = currentGraph.longitude(nodes[i]);
+			vertexes[i * 2 + 1] = currentGraph.latitude(nodes[i]);
+		}
+
+		int distance = (int)Math.round(path.length());
+		int duration = toDuration(distance);
+		return new KakaoWalkingDirectionsResponse.Section(distance, duration,
+			List.of(new KakaoWalkingDirectionsResponse.Road(distance, duration, vertexes)));
+	}
+
+	// 간선마다 주변 안전시설 수로 안전도를 구해 비용에 반영 (양방향 간선은 같은 비용)
+	private float[] computeSafetyCosts(PedestrianGraph loaded) {
+		float[] costs = new float[loaded.edgeCount()];
+		for (int from = 0; from < loaded.nodeCount(); from++) {
+			for (int edge = loaded.firstEdge(from); edge < loaded.lastEdge(from); edge++) {
+				int to = loaded.edgeTarget(edge);
+				if (to < from) {
+					continue;
+				}
+
+				RoutePolyline segment = RoutePolyline.of(new double[] {
+					loaded.longitude(from), loaded.latitude(from), loaded.longitude(to), loaded.latitude(to)});
+				int facilities = safetyFacilityIndex.findWithinCorridor(segment, safetyRadiusMeters, null).size();
+
+				float length = loaded.edgeLength(edge);
+				// 짧은 간선 하나에 시설이 몰려 있어도 안전도가 과대평가되지 않도록 최소 길이를 반경으로
+				double expected = facilitiesPer100m * Math.max(length, safetyRadiusMeters) / 100.0;
+				double safety = Math.min(1.0, facilities / expected);
+				costs[edge] = (float)(length * (1 + safetyPenalty * (1 - safety)));
+				setReverseCost(loaded, costs, to, from, length, costs[edge]);
+			}
+		}
+		return costs;
+	}
+
+	// 같은 두 노드 사이의 도로가 여러 개일 수 있으므로 아직 비용이 없는(0) 역방향 간선 하나에만 설정
+	private void setReverseCost(PedestrianGraph loaded, float[] costs, int from, int to, float length, float cost) {
+		for (int edge = loaded.firstEdge(from); edge < loaded.lastEdge(from); edge++) {
+			if (loaded.edgeTarget(edge) == to && loaded.edgeLength(edge) == length && costs[edge] == 0) {
+				costs[edge] = cost;
+				return;
+			}
+		}
+	}
+
+	private int toDuration(int distance) {
+		return (int)Math.round(distance / walkingSpeed);
+	}
+
+	private KakaoWalkingDirectionsResponse noRoute() {
+		return new KakaoWalkingDirectionsResponse(TRANS_ID, List.of(new KakaoWalkingDirectionsResponse.Route(
+			NO_ROUTE_RESULT_CODE, NO_ROUTE_MESSAGE, new KakaoWalkingDirectionsResponse.Summary(0, 0),
+			new ArrayList<>())));
+	}
+}
@@ -0,0 +1,142 @@
+package com.redstonetorch.dongbaekro.location.routing;
+
+import java.util.Arrays;
+
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+import com.redstonetorch.dongbaekro.location.spatial.LocalPlane;
+
+// 보행 도로망 그래프 (CSR: compressed sparse row)
+// 노드 i에서 나가는 간선은 edgeTargets[edgeOffsets[i] .. edgeOffsets[i + 1]) 이고, 양방향 도로는 간선 두 개로 저장한다.
+// 객체 없이 기본형 배열만 사용하므로 노드 수백만 개 규모에서도 메모리 사용량이 작고 탐색 중 캐시 효율이 좋다.
+public final class PedestrianGraph {
+
+	// 출발지/목적지를 노드에 붙이기 위한 격자 크기
+	private static final double GRID_CELL_METERS = 50.0;
+
+	private final double[] latitudes;
+	private final double[] longitudes;
+	private final int[] edgeOffsets;
+	private final int[] edgeTargets;
+	private final float[] edgeLengths;
+
+	// 노드 격자: cellKeys(정렬)[k] 칸의 노드는 cellNodes[cellStarts[k] .. cellStarts[k + 1])
+	private final double cellLatitudeDegrees;
+	private final double cellLongitudeDegrees;
+	private final long[] cellKeys;
+	private final int[] cellStarts;
+	private final int[] cellNodes;
+	private final LocalPlane plane;
+
+	PedestrianGraph(double[] latitudes, double[] longitudes, int[] edgeOffsets, int[] edgeTargets,
+		float[] edgeLengths) {
+		this.latitudes = latitudes;
+		this.longitudes = longitudes;
+		this.edgeOffsets = edgeOffsets;
+		this.edgeTargets = edgeTargets;
+		this.edgeLengths = edgeLengths;
+
+		double referenceLatitude = latitudes.length == 0 ? 0.0 : latitudes[latitudes.length / 2];
+		this.plane = LocalPlane.at(referenceLatitude);
+		this.cellLatitudeDegrees = GeoDistance.metersToLatitudeDegrees(GRID_CELL_METERS);
+		this.cellLongitudeDegrees = GeoDistance.metersToLongitudeDegrees(GRID_CELL_METERS, referenceLatitude);
+
+		// 노드를 칸 키 순으로 정렬해 칸마다 연속 구간으로 저장
+		int nodeCount = latitudes.length;
+		long[] nodeKeys = new long[nodeCount];
+		Integer[] order = new Integer[nodeCount];
+		for (int node = 0; node < nodeCount; node++) {
+			nodeKeys[node] = cellKey(cellRow(latitudes[node]), cellColumn(longitudes[node]));
+			order[node] = node;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(nodeKeys[a], nodeKeys[b]));
+
+		this.cellNodes = new int[nodeCount];
+		long[] keys = new long[nodeCount];
+		int[] starts = new int[nodeCount + 1];
+		int cellCount = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			int node = order[i];
+			cellNodes[i] = node;
+			if (cellCount == 0 || keys[cellCount - 1] != nodeKeys[node]) {
+				keys[cellCount] = nodeKeys[node];
+				starts[cellCount] = i;
+				cellCount++;
+			}
+		}
+		starts[cellCount] = nodeCount;
+		this.cellKeys = Arrays.copyOf(keys, cellCount);
+		this.cellStarts = Arrays.copyOf(starts, cellCount + 1);
+	}
+
+	public int nodeCount() {
+		return latitudes.length;
+	}
+
+	public int edgeCount() {
+		return edgeTargets.length;
+	}
+
+	public double latitude(int node) {
+		return latitudes[node];
+	}
+
+	public double longitude(int node) {
+		return longitudes[node];
+	}
+
+	public int firstEdge(int node) {
+		return edgeOffsets[node];
+	}
+
+	public int lastEdge(int node) {
+		return edgeOffsets[node + 1];
+	}
+
+	public int edgeTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	public float edgeLength(int edge) {
+		return edgeLengths[edge];
+	}
+
+	// maxMeters 안에서 가장 가까운 노드, 없으면 -1
+	public int nearestNode(double latitude, double longitude, double maxMeters) {
+		int row = cellRow(latitude);
+		int column = cellColumn(longitude);
+		int reach = (int)Math.ceil(maxMeters / GRID_CELL_METERS);
+		double bestSquared = maxMeters * maxMeters;
+		int best = -1;
+
+		for (int r = row - reach; r <= row + reach; r++) {
+			for (int c = column - reach; c <= column + reach; c++) {
+				int cell = Arrays.binarySearch(cellKeys, cellKey(r, c));
+				if (cell < 0) {
+					continue;
+				}
+				for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+					int node = cellNodes[i];
+					double distanceSquared = plane.distanceSquared(latitude, longitude,
+						latitudes[node], longitudes[node]);
+					if (distanceSquared <= bestSquared) {
+						bestSquared = distanceSquared;
+						best = node;
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	private int cellRow(double latitude) {
+		return (int)Math.floor(latitude / cellLatitudeDegrees);
+	}
+
+	private int cellColumn(double longitude) {
+		return (int)Math.floor(longitude / cellLongitudeDegrees);
+	}
+
+	private static long cellKey(int row, int column) {
+		return ((long)row << 32) | (column & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,220 @@
+package com.redstonetorch.dongbaekro.location.routing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+// GeoJSON(FeatureCollection) 보행 도로망을 PedestrianGraph로 변환
+// LineString/MultiLineString의 연속한 좌표를 양방향 간선으로 잇고, 같은 좌표(1e-7도 단위)는 같은 노드로 합친다.
+// OSM에서 내보낸 파일이면 properties의 highway/foot/access 태그로 보행할 수 없는 도로를 제외한다.
+// 서로 연결되지 않은 작은 조각에 출발지가 붙으면 경로를 찾을 수 없으므로 가장 큰 연결 요소만 남긴다.
+// feature 단위로 스트리밍 파싱하므로 파일 전체를 트리로 읽지 않는다.
+public final class PedestrianGraphLoader {
+
+	private static final double COORDINATE_SCALE = 1e7;
+	private static final Set<String> EXCLUDED_HIGHWAYS = Set.of(
+		"motorway", "motorway_link", "trunk", "trunk_link", "construction", "proposed", "raceway", "bus_guideway");
+	private static final Set<String> NO_ACCESS = Set.of("no", "private");
+
+	private final Map<Long, Integer> nodeIds = new HashMap<>();
+	private double[] latitudes = new double[1024];
+	private double[] longitudes = new double[1024];
+	private int nodeCount;
+	// 도로 구간(양방향 간선 한 쌍)
+	private int[] segmentFrom = new int[1024];
+	private int[] segmentTo = new int[1024];
+	private int segmentCount;
+
+	private PedestrianGraphLoader() {
+	}
+
+	public static PedestrianGraph load(InputStream input, ObjectMapper objectMapper) throws IOException {
+		PedestrianGraphLoader loader = new PedestrianGraphLoader();
+		try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("GeoJSON must be a FeatureCollection object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				if ("features".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						loader.addFeature(parser.readValueAsTree());
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return loader.build();
+	}
+
+	private void addFeature(JsonNode feature) {
+		JsonNode properties = feature.path("properties");
+		if (!isWalkable(properties)) {
+			return;
+		}
+
+		JsonNode geometry = feature.path("geometry");
+		switch (geometry.path("type").asText()) {
+			case "LineString" -> addLine(geometry.path("coordinates"));
+			case "MultiLineString" -> geometry.path("coordinates").forEach(this::addLine);
+			default -> {
+				// 점/면 등은 도로가 아니므로 무시
+			}
+		}
+	}
+
+	private boolean isWalkable(JsonNode properties) {
+		String foot = properties.path("foot").asText("");
+		if ("yes".equals(foot) || "designated".equals(foot)) {
+			return true;
+		}
+		if (NO_ACCESS.contains(foot) || NO_ACCESS.contains(properties.path("access").asText(""))) {
+			return false;
+		}
+		return !EXCLUDED_HIGHWAYS.contains(properties.path("highway").asText(""));
+	}
+
+	// coordinates: [[lng, lat], [lng, lat], ...]
+	private void addLine(JsonNode coordinates) {
+		int previous = -1;
+		for (JsonNode coordinate : coordinates) {
+			if (coordinate.size() < 2) {
+				continue;
+			}
+			int node = nodeId(coordinate.get(1).asDouble(), coordinate.get(0).asDouble());
+			if (previous >= 0 && previous != node) {
+				addSegment(previous, node);
+			}
+			previous = node;
+		}
+	}
+
+	private int nodeId(double latitude, double longitude) {
+		long key = Math.round(latitude * COORDINATE_SCALE) * 4_000_000_000L
+			+ Math.round(longitude * COORDINATE_SCALE);
+		Integer existing = nodeIds.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		if (nodeCount == latitudes.length) {
+			latitudes = Arrays.copyOf(latitudes, nodeCount * 2);
+			longitudes = Arrays.copyOf(longitudes, nodeCount * 2);
+		}
+		latitudes[nodeCount] = latitude;
+		longitudes[nodeCount] = longitude;
+		nodeIds.put(key, nodeCount);
+		return nodeCount++;
+	}
+
+	private void addSegment(int from, int to) {
+		if (segmentCount == segmentFrom.length) {
+			segmentFrom = Arrays.copyOf(segmentFrom, segmentCount * 2);
+			segmentTo = Arrays.copyOf(segmentTo, segmentCount * 2);
+		}
+		segmentFrom[segmentCount] = from;
+		segmentTo[segmentCount] = to;
+		segmentCount++;
+	}
+
+	private PedestrianGraph build() {
+		nodeIds.clear();
+
+		// 가장 큰 연결 요소의 노드만 0부터 다시 번호를 매긴다.
+		boolean[] kept = largestComponent();
+		int[] remap = new int[nodeCount];
+		int keptNodes = 0;
+		for (int node = 0; node < nodeCount; node++) {
+			remap[node] = kept[node] ? keptNodes++ : -1;
+		}
+
+		double[] keptLatitudes = new double[keptNodes];
+		double[] keptLongitudes = new double[keptNodes];
+		for (int node = 0; node < nodeCount; node++) {
+			if (remap[node] >= 0) {
+				keptLatitudes[remap[node]] = latitudes[node];
+				keptLongitudes[remap[node]] = longitudes[node];
+			}
+		}
+
+		// 노드별 간선 수를 센 뒤 누적합으로 CSR 오프셋을 만들고 채운다.
+		int[] offsets = new int[keptNodes + 1];
+		for (int segment = 0; segment < segmentCount; segment++) {
+			int from = remap[segmentFrom[segment]];
+			if (from >= 0) {
+				offsets[from + 1]++;
+				offsets[remap[segmentTo[segment]] + 1]++;
+			}
+		}
+		for (int node = 0; node < keptNodes; node++) {
+			offsets[node + 1] += offsets[node];
+		}
+
+		int[] targets = new int[offsets[keptNodes]];
+		float[] lengths = new float[offsets[keptNodes]];
+		int[] cursor = Arrays.copyOf(offsets, keptNodes);
+		for (int segment = 0; segment < segmentCount; segment++) {
+			int from = remap[segmentFrom[segment]];
+			if (from < 0) {
+				continue;
+			}
+			int to = remap[segmentTo[segment]];
+			float length = (float)GeoDistance.haversine(keptLatitudes[from], keptLongitudes[from],
+				keptLatitudes[to], keptLongitudes[to]);
+			targets[cursor[from]] = to;
+			lengths[cursor[from]++] = length;
+			targets[cursor[to]] = from;
+			lengths[cursor[to]++] = length;
+		}
+
+		return new PedestrianGraph(keptLatitudes, keptLongitudes, offsets, targets, lengths);
+	}
+
+	// union-find로 연결 요소를 구해 가장 큰 요소에 속한 노드만 true
+	private boolean[] largestComponent() {
+		int[] parent = new int[nodeCount];
+		for (int node = 0; node < nodeCount; node++) {
+			parent[node] = node;
+		}
+		for (int segment = 0; segment < segmentCount; segment++) {
+			int a = find(parent, segmentFrom[segment]);
+			int b = find(parent, segmentTo[segment]);
+			if (a != b) {
+				parent[a] = b;
+			}
+		}
+
+		int[] sizes = new int[nodeCount];
+		int largest = -1;
+		for (int node = 0; node < nodeCount; node++) {
+			int root = find(parent, node);
+			if (++sizes[root] > (largest < 0 ? 0 : sizes[largest])) {
+				largest = root;
+			}
+		}
+
+		boolean[] kept = new boolean[nodeCount];
+		for (int node = 0; node < nodeCount; node++) {
+			kept[node] = find(parent, node) == largest;
+		}
+		return kept;
+	}
+
+	private static int find(int[] parent, int node) {
+		while (parent[node] != node) {
+			parent[node] = parent[parent[node]];
+			node = parent[node];
+		}
+		return node;
+	}
+}
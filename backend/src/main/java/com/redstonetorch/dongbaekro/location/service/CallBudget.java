@@ -0,0 +1,33 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 호출마다 ratio 만큼 적립하고 추가 호출(재시도, 헤지) 한 번에 1을 사용하는 예산
+// 장애나 지연 시에도 추가 호출이 전체 트래픽을 (1 + ratio)배 이상으로 늘리지 않도록 한다.
+final class CallBudget {
+
+	private static final int SCALE = 1000;
+	private static final int MAX_BALANCE = 10 * SCALE;
+
+	private final int depositPerCall;
+	private final AtomicInteger balance = new AtomicInteger(MAX_BALANCE);
+
+	CallBudget(double ratio) {
+		this.depositPerCall = (int)Math.round(ratio * SCALE);
+	}
+
+	void deposit() {
+		balance.updateAndGet(current -> Math.min(MAX_BALANCE, current + depositPerCall));
+	}
+
+	boolean tryWithdraw() {
+		int current;
+		do {
+			current = balance.get();
+			if (current < SCALE) {
+				return false;
+			}
+		} while (!balance.compareAndSet(current, current - SCALE));
+		return true;
+	}
+}
@@ -0,0 +1,226 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.redstonetorch.dongbaekro.location.spatial.CorridorFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+
+// 추가 거리 예산 안에서 안전시설 커버리지가 가장 커지도록 경유지를 고르는 탐욕 최적화
+// 경로를 누적 거리(along)와 경로에서 떨어진 거리(offset) 축으로 펼친 평면에서 보고, 두 지점 사이 도보 거리를
+// |along 차이| + |offset 차이| (격자형 도로망 근사)로 추정한다. 경유지는 항상 along 순서로 방문하므로 되돌아가는 구간이 없다.
+// 매 단계 (새로 덮는 경로 길이) / (삽입 시 늘어나는 추정 거리)가 가장 큰 시설을 예산 안에서 추가하고,
+// 계산 시간이 timeLimitNanos를 넘으면 그때까지 고른 경유지를 반환한다.
+// 새로 덮는 길이는 선택이 늘수록 줄기만 하고, 추가 거리는 새 경유지의 앞뒤 경유지 사이 시설만 바뀌므로
+// 우선순위 큐에 이전 비율을 두고 꺼낼 때만 다시 계산한다. (lazy greedy, 후보 수천~만 개에서도 수 ms)
+final class DetourBudgetOptimizer {
+
+	// 추가 거리가 0에 가까운 시설의 비율이 무한대가 되지 않도록 더하는 값 (미터)
+	private static final double MIN_COST_METERS = 1.0;
+	// 커버리지는 이 개수 이하의 칸으로 나눠 계산 (칸 크기는 최소 1m)
+	private static final int MAX_CELLS = 100_000;
+	// 한 단계 안에서도 이 개수의 후보마다 시간 제한 확인
+	private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+	private final List<CorridorFacility> facilities;
+	private final double routeLength;
+	private final double radiusMeters;
+	private final double cellMeters;
+	// 칸별 덮임 여부 비트맵 (칸 수 = MAX_CELLS 이하)
+	private final long[] covered;
+
+	// along 순서로 정렬된 선택 결과 (facilities 인덱스)
+	private final List<Integer> selected = new ArrayList<>();
+	private final boolean[] used;
+	// 시설별 마지막으로 계산한 추가 거리와, 그 값으로 큐에 넣은 항목의 버전
+	private final double[] costs;
+	private final int[] versions;
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+		Comparator.comparingDouble(Entry::ratio).reversed());
+	private double spentMeters;
+	private boolean deadlineReached;
+
+	// facilities는 along 순서로 정렬되어 있어야 한다. (SafetyFacilityIndex.findCorridorFacilities 결과)
+	DetourBudgetOptimizer(List<CorridorFacility> facilities, double routeLength, double radiusMeters) {
+		this.facilities = facilities;
+		this.routeLength = routeLength;
+		this.radiusMeters = radiusMeters;
+		this.cellMeters = Math.max(1.0, routeLength / MAX_CELLS);
+		this.covered = new long[((int)Math.ceil(routeLength / cellMeters) >> 6) + 1];
+		this.used = new boolean[facilities.size()];
+		this.costs = new double[facilities.size()];
+		this.versions = new int[facilities.size()];
+		Arrays.fill(costs, Double.NaN);
+
+		// 원래 경로에서 이미 반경 안에 있는 시설이 덮는 구간은 경유지 없이도 덮여 있다.
+		for (CorridorFacility facility : facilities) {
+			if (facility.offset() <= radiusMeters) {
+				double halfChord = Math.sqrt(radiusMeters * radiusMeters - facility.offset() * facility.offset());
+				cover(facility.distanceAlong() - halfChord, facility.distanceAlong() + halfChord);
+			}
+		}
+	}
+
+	List<FacilityPoint> optimize(double budgetMeters, int maxWaypoints, long timeLimitNanos) {
+		long deadline = System.nanoTime() + timeLimitNanos;
+		int evaluated = 0;
+
+		if (!evaluate(0, facilities.size(), budgetMeters, deadline)) {
+			return result();
+		}
+		while (selected.size() < maxWaypoints && !queue.isEmpty()) {
+			if (++evaluated % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+				deadlineReached = true;
+				break;
+			}
+
+			Entry entry = queue.poll();
+			int index = entry.index();
+			if (used[index] || entry.version() != versions[index]) {
+				continue;
+			}
+			if (entry.selectedCount() != selected.size()) {
+				// 그 사이 다른 경유지가 골라졌으면 새로 덮는 길이만 다시 계산
+				push(index, entry.cost(), budgetMeters);
+				continue;
+			}
+
+			insert(index, entry.cost());
+			// 새 경유지의 앞뒤 경유지 사이에 있는 시설은 추가 거리가 달라진다.
+			int position = selected.indexOf(index);
+			int from = position > 0 ? selected.get(position - 1) + 1 : 0;
+			int to = position < selected.size() - 1 ? selected.get(position + 1) : facilities.size();
+			if (!evaluate(from, to, budgetMeters, deadline)) {
+				break;
+			}
+		}
+		return result();
+	}
+
+	// facilities[from, to) 범위 시설의 비율을 다시 계산해 큐에 넣는다. 시간 제한을 넘으면 false
+	private boolean evaluate(int from, int to, double budgetMeters, long deadline) {
+		for (int i = from; i < to; i++) {
+			if ((i - from) % DEADLINE_CHECK_INTERVAL == DEADLINE_CHECK_INTERVAL - 1 && System.nanoTime() > deadline) {
+				deadlineReached = true;
+				return false;
+			}
+			// 이미 경로가 반경 안을 지나는 시설은 경유지로 추가해도 새로 덮는 구간이 없다.
+			if (used[i] || facilities.get(i).offset() <= radiusMeters) {
+				continue;
+			}
+			// 추가 거리가 그대로면 기존 항목이 그대로 유효하다. (큐에 없으면 예산 초과 또는 덮을 구간 없음이 유지됨)
+			double cost = insertionCost(facilities.get(i));
+			if (cost == costs[i]) {
+				continue;
+			}
+			costs[i] = cost;
+			versions[i]++;
+			push(i, cost, budgetMeters);
+		}
+		return true;
+	}
+
+	// 남은 예산을 넘거나 새로 덮는 구간이 없으면 넣지 않는다. (예산은 줄기만 하므로 다시 볼 필요 없음)
+	private void push(int index, double cost, double budgetMeters) {
+		if (spentMeters + cost > budgetMeters) {
+			return;
+		}
+		CorridorFacility facility = facilities.get(index);
+		double gain = uncoveredLength(facility.distanceAlong() - radiusMeters,
+			facility.distanceAlong() + radiusMeters);
+		if (gain > 0) {
+			queue.add(new Entry(gain / (cost + MIN_COST_METERS), cost, index, versions[index], selected.size()));
+		}
+	}
+
+	double spentMeters() {
+		return spentMeters;
+	}
+
+	boolean deadlineReached() {
+		return deadlineReached;
+	}
+
+	// 경로상 앞뒤 경유지(없으면 출발지/목적지) 사이에 끼워 넣을 때 늘어나는 추정 거리
+	private double insertionCost(CorridorFacility facility) {
+		int position = insertionPosition(facility.distanceAlong());
+		double previousOffset = position > 0 ? facilities.get(selected.get(position - 1)).offset() : 0.0;
+		double nextOffset = position < selected.size() ? facilities.get(selected.get(position)).offset() : 0.0;
+		// along 방향 거리는 삽입 전후가 같으므로 offset 방향 이동만 늘어난다.
+		return Math.abs(facility.offset() - previousOffset) + Math.abs(nextOffset - facility.offset())
+			- Math.abs(nextOffset - previousOffset);
+	}
+
+	private void insert(int index, double cost) {
+		CorridorFacility facility = facilities.get(index);
+		selected.add(insertionPosition(facility.distanceAlong()), index);
+		used[index] = true;
+		spentMeters += cost;
+		cover(facility.distanceAlong() - radiusMeters, facility.distanceAlong() + radiusMeters);
+	}
+
+	// selected에서 along이 처음으로 distanceAlong보다 큰 위치
+	private int insertionPosition(double distanceAlong) {
+		int low = 0;
+		int high = selected.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (facilities.get(selected.get(mid)).distanceAlong() <= distanceAlong) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private void cover(double start, double end) {
+		int from = toCell(start);
+		int to = toCell(end);
+		for (int word = from >> 6; from < to; word++) {
+			covered[word] |= rangeMask(from, to);
+			from = (word + 1) << 6;
+		}
+	}
+
+	private double uncoveredLength(double start, double end) {
+		int from = toCell(start);
+		int to = toCell(end);
+		int uncovered = 0;
+		for (int word = from >> 6; from < to; word++) {
+			long mask = rangeMask(from, to);
+			uncovered += Long.bitCount(mask & ~covered[word]);
+			from = (word + 1) << 6;
+		}
+		return uncovered * cellMeters;
+	}
+
+	// from이 속한 64칸 단위 워드에서 [from, to) 범위의 비트
+	private static long rangeMask(int from, int to) {
+		long mask = -1L << (from & 63);
+		int wordEnd = (from | 63) + 1;
+		if (to < wordEnd) {
+			mask &= -1L >>> (64 - (to & 63));
+		}
+		return mask;
+	}
+
+	private int toCell(double distanceAlong) {
+		double clamped = Math.max(0.0, Math.min(routeLength, distanceAlong));
+		return (int)Math.round(clamped / cellMeters);
+	}
+
+	private record Entry(double ratio, double cost, int index, int version, int selectedCount) {
+	}
+
+	private List<FacilityPoint> result() {
+		List<FacilityPoint> waypoints = new ArrayList<>(selected.size());
+		for (int index : selected) {
+			waypoints.add(facilities.get(index).point());
+		}
+		return waypoints;
+	}
+}
@@ -0,0 +1,270 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.redstonetorch.dongbaekro.common.util.HttpRequestCancellation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 카카오 경로 호출의 헤지(hedged request)
+// 최근 응답 시간의 percentile(기본 p95)이 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용한다.
+// 추가 호출은 전체 호출의 budget-ratio(기본 5%) 이내로 제한해 쿼터를 보호한다.
+// 기본 요청과 헤지 요청은 각자 끝날 때까지 카카오 벌크헤드 자리를 차지하고, 승부가 나면 늦은 쪽은 취소한다.
+// 취소는 Apache 요청을 cancel()해 커넥션을 닫고(HttpRequestCancellation), 그 밖의 클라이언트를 위해 스레드도 인터럽트한다.
+@Component
+public class KakaoHedging {
+
+	// 지연 기준은 최근 SAMPLE_SIZE개 응답 시간에서 RECOMPUTE_INTERVAL번 기록마다 다시 계산
+	private static final int SAMPLE_SIZE = 1024;
+	private static final int RECOMPUTE_INTERVAL = 64;
+
+	private final Executor executor;
+	private final KakaoRateLimiter kakaoRateLimiter;
+	private final KakaoResilience kakaoResilience;
+	private final boolean enabled;
+	private final double percentile;
+	private final long minDelayNanos;
+	private final CallBudget budget;
+
+	private final AtomicLongArray latencies = new AtomicLongArray(SAMPLE_SIZE);
+	private final AtomicLong recorded = new AtomicLong();
+	private volatile long hedgeDelayNanos;
+
+	private final Counter hedgesFired;
+	private final Counter hedgesWon;
+	private final Counter budgetExhausted;
+
+	public KakaoHedging(MeterRegistry meterRegistry, KakaoRateLimiter kakaoRateLimiter,
+		KakaoResilience kakaoResilience,
+		@Qualifier("kakaoHedgeExecutor") Executor executor,
+		@Value("${kakao.hedging.enabled:false}") boolean enabled,
+		@Value("${kakao.hedging.percentile:0.95}") double percentile,
+		@Value("${kakao.hedging.min-delay:50ms}") Duration minDelay,
+		@Value("${kakao.hedging.initial-delay:1s}") Duration initialDelay,
+		@Value("${kakao.hedging.budget-ratio:0.05}") double budgetRatio) {
+		this.executor = executor;
+		this.kakaoRateLimiter = kakaoRateLimiter;
+		this.kakaoResilience = kakaoResilience;
+		this.enabled = enabled;
+		this.percentile = percentile;
+		this.minDelayNanos = minDelay.toNanos();
+		this.hedgeDelayNanos = Math.max(minDelayNanos, initialDelay.toNanos());
+		this.budget = new CallBudget(budgetRatio);
+
+		this.hedgesFired = Counter.builder("kakao.hedge.fired")
+			.description("Hedge requests sent after the primary exceeded the latency percentile")
+			.register(meterRegistry);
+		this.hedgesWon = Counter.builder("kakao.hedge.won")
+			.description("Hedge requests that returned before the primary")
+			.register(meterRegistry);
+		this.budgetExhausted = Counter.builder("kakao.hedge.budget.exhausted")
+			.description("Hedges skipped because the hedge budget was exhausted")
+			.register(meterRegistry);
+		Gauge.builder("kakao.hedge.delay", this, hedging -> hedging.hedgeDelayNanos / 1_000_000.0)
+			.description("Current hedge delay derived from recent Kakao latency")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	public <T> T execute(Supplier<T> call) {
+		if (!enabled) {
+			return kakaoResilience.withPermit(call);
+		}
+
+		budget.deposit();
+		// 기본 요청은 헤지용 스레드에서 자리를 잡으므로, 헤지에 져서 늦게 끝나도 그때까지 자리를 유지한다.
+		HedgedCall<T> primary = submit(() -> kakaoResilience.withPermit(call), null);
+		if (primary == null) {
+			// 헤지용 스레드가 모두 사용 중이면 헤지 없이 현재 스레드에서 호출
+			return kakaoResilience.withPermit(call);
+		}
+
+		try {
+			return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			return hedge(call, primary);
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	private <T> T hedge(Supplier<T> call, HedgedCall<T> primary) {
+		if (!budget.tryWithdraw()) {
+			budgetExhausted.increment();
+			return join(primary);
+		}
+		// 헤지는 BACKGROUND 우선순위로, 토큰을 바로 얻을 수 없으면 보내지 않는다.
+		if (!kakaoRateLimiter.tryAcquire(KakaoPriority.BACKGROUND)) {
+			return join(primary);
+		}
+
+		// 헤지 요청도 카카오 동시 호출 수에 포함, 벌크헤드에 자리가 없으면 보내지 않는다.
+		if (!kakaoResilience.tryAcquirePermit()) {
+			return join(primary);
+		}
+
+		HedgedCall<T> secondary = submit(call, kakaoResilience::releasePermit);
+		if (secondary == null) {
+			kakaoResilience.releasePermit();
+			return join(primary);
+		}
+		hedgesFired.increment();
+
+		// 먼저 성공한 응답을 사용하고 다른 쪽은 취소, 둘 다 실패하면 나중 실패를 전달
+		CompletableFuture<T> winner = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+		primary.whenComplete((result, e) -> {
+			if (complete(winner, result, e, failures)) {
+				secondary.cancel(true);
+			}
+		});
+		secondary.whenComplete((result, e) -> {
+			if (complete(winner, result, e, failures)) {
+				hedgesWon.increment();
+				primary.cancel(true);
+			}
+		});
+		return join(winner);
+	}
+
+	// 이 응답으로 winner를 완료했으면 true
+	private <T> boolean complete(CompletableFuture<T> winner, T result, Throwable e, AtomicInteger failures) {
+		if (e == null) {
+			return winner.complete(result);
+		}
+		if (failures.incrementAndGet() == 2) {
+			winner.completeExceptionally(e);
+		}
+		return false;
+	}
+
+	// 헤지용 스레드가 없어 거절되면 null, onFinish는 없으면 null
+	private <T> HedgedCall<T> submit(Supplier<T> call, Runnable onFinish) {
+		HedgedCall<T> hedgedCall = new HedgedCall<>(call, onFinish);
+		try {
+			executor.execute(hedgedCall);
+			return hedgedCall;
+		} catch (RejectedExecutionException e) {
+			return null;
+		}
+	}
+
+	private <T> T timed(Supplier<T> call) {
+		long start = System.nanoTime();
+		T result = call.get();
+		recordLatency(System.nanoTime() - start);
+		return result;
+	}
+
+	// 성공한 호출의 응답 시간만 기록
+	private void recordLatency(long nanos) {
+		long count = recorded.incrementAndGet();
+		latencies.set((int)((count - 1) % SAMPLE_SIZE), nanos);
+		if (count % RECOMPUTE_INTERVAL == 0) {
+			int size = (int)Math.min(count, SAMPLE_SIZE);
+			long[] samples = new long[size];
+			for (int i = 0; i < size; i++) {
+				samples[i] = latencies.get(i);
+			}
+			Arrays.sort(samples);
+			int index = Math.min(size - 1, (int)Math.ceil(percentile * size) - 1);
+			hedgeDelayNanos = Math.max(minDelayNanos, samples[Math.max(0, index)]);
+		}
+	}
+
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private RuntimeException unwrap(Throwable cause) {
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new CompletionException(cause);
+	}
+
+	// 취소하면 진행 중인 HTTP 요청을 끊고 실행 중인 스레드를 인터럽트하는 호출
+	// (CompletableFuture.cancel은 실행 중인 작업을 멈추지 않는다)
+	// onFinish는 취소 여부와 관계없이 호출이 실제로 끝난 뒤 한 번 실행된다.
+	private final class HedgedCall<T> extends CompletableFuture<T> implements Runnable {
+
+		private final Supplier<T> call;
+		private final Runnable onFinish;
+		private final HttpRequestCancellation cancellation = new HttpRequestCancellation();
+		private Thread runner;
+
+		private HedgedCall(Supplier<T> call, Runnable onFinish) {
+			this.call = call;
+			this.onFinish = onFinish;
+		}
+
+		@Override
+		public void run() {
+			try {
+				synchronized (this) {
+					if (isDone()) {
+						return;
+					}
+					runner = Thread.currentThread();
+				}
+				try {
+					complete(timed(() -> cancellation.run(call)));
+				} catch (Throwable e) {
+					completeExceptionally(e);
+				} finally {
+					synchronized (this) {
+						runner = null;
+					}
+					// 취소 인터럽트가 풀 스레드의 다음 작업에 남지 않도록 정리
+					Thread.interrupted();
+				}
+			} finally {
+				if (onFinish != null) {
+					onFinish.run();
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			if (cancelled && mayInterruptIfRunning) {
+				cancellation.cancel();
+				synchronized (this) {
+					if (runner != null) {
+						runner.interrupt();
+					}
+				}
+			}
+			return cancelled;
+		}
+	}
+}
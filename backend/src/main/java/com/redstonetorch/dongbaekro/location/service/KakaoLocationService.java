@@ -1,17 +1,34 @@
 package com.redstonetorch.dongbaekro.location.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
 import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
 import com.redstonetorch.dongbaekro.location.dto.request.WalkingDirectionsRequest;
 import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
@@ -22,11 +39,35 @@ import com.redstonetorch.dongbaekro.location.dto.response.KakaoRegionResponse;
 public class KakaoLocationService {
 
 	private final RestTemplate restTemplate;
+	private final ObjectMapper objectMapper;
+	private final KakaoRouteCache kakaoRouteCache;
+	private final KakaoResilience kakaoResilience;
+	private final KakaoHedging kakaoHedging;
+	private final KakaoRateLimiter kakaoRateLimiter;
+	private final Executor kakaoTaskExecutor;
+	private final Counter staleRouteFallbacks;
 	private final String kakaoApiKey;
-
-	public KakaoLocationService(RestTemplate restTemplate, @Value("${KAKAO_REST_API}") String kakaoApiKey) {
+	private final double rawResponseSampleRate;
+
+	public KakaoLocationService(RestTemplate restTemplate, ObjectMapper objectMapper, KakaoRouteCache kakaoRouteCache,
+		KakaoResilience kakaoResilience, KakaoHedging kakaoHedging, KakaoRateLimiter kakaoRateLimiter,
+		MeterRegistry meterRegistry,
+		@Qualifier("kakaoTaskExecutor") Executor kakaoTaskExecutor,
+		@Value("${KAKAO_REST_API}") String kakaoApiKey,
+		@Value("${kakao.debug.raw-response-sample-rate:0}") double rawResponseSampleRate) {
 		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+		this.kakaoRouteCache = kakaoRouteCache;
+		this.kakaoResilience = kakaoResilience;
+		this.kakaoHedging = kakaoHedging;
+		this.kakaoRateLimiter = kakaoRateLimiter;
+		this.kakaoTaskExecutor = kakaoTaskExecutor;
+		this.staleRouteFallbacks = Counter.builder("kakao.resilience.fallback")
+			.description("Degraded responses served while Kakao is failing")
+			.tag("type", "stale_cache")
+			.register(meterRegistry);
 		this.kakaoApiKey = kakaoApiKey;
+		this.rawResponseSampleRate = rawResponseSampleRate;
 	}
 
 	private static final String KAKAO_COORD_TO_REGION_URL = "https://dapi.kakao.com/v2/local/geo/coord2regioncode.json";
@@ -45,8 +86,10 @@ public class KakaoLocationService {
 
 		HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-		ResponseEntity<KakaoRegionResponse> response = restTemplate.exchange(
-			url, HttpMethod.GET, entity, KakaoRegionResponse.class);
+		// 지역 코드 조회는 긴급 신고/동네 화면에서 사용하므로 가장 높은 우선순위
+		ResponseEntity<KakaoRegionResponse> response = callKakao(KakaoPriority.CRITICAL,
+			() -> kakaoResilience.withPermit(
+				() -> restTemplate.exchange(url, HttpMethod.GET, entity, KakaoRegionResponse.class)));
 
 		KakaoRegionResponse responseBody = response.getBody();
 		if (responseBody != null && responseBody.documents() != null) {
@@ -61,80 +104,95 @@ public class KakaoLocationService {
 	}
 
 	public KakaoWalkingDirectionsResponse getWalkingDirections(WalkingDirectionsRequest request) {
-		try {
-			UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(KAKAO_WALKING_DIRECTIONS_URL)
-				.queryParam("origin", request.getOriginCoordinates())
-				.queryParam("destination", request.getDestinationCoordinates());
-
-			if (request.waypoints() != null && !request.waypoints().isEmpty()) {
-				builder.queryParam("waypoints", request.waypoints());
-			}
-			if (request.priority() != null) {
-				builder.queryParam("priority", request.priority());
-			}
-			if (request.summary() != null) {
-				builder.queryParam("summary", request.summary());
-			}
-			if (request.defaultSpeed() != null) {
-				builder.queryParam("default_speed", request.defaultSpeed());
-			}
-
-			String url = builder.build().toUriString();
-			log.info("Kakao Walking Directions API URL: {}", url);
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-			headers.set("Content-Type", "application/json");
-			headers.set("Accept", "application/json");
-			headers.set("service", "dongbaekro");
-
-			HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-			// 디버깅을 위해 먼저 String으로 응답 확인
-			ResponseEntity<String> rawResponse = restTemplate.exchange(
-				url, HttpMethod.GET, entity, String.class);
-
-			log.info("Raw Kakao API Response: {}", rawResponse.getBody());
-
-			ResponseEntity<KakaoWalkingDirectionsResponse> response = restTemplate.exchange(
-				url, HttpMethod.GET, entity, KakaoWalkingDirectionsResponse.class);
-
-			return response.getBody();
-		} catch (RestClientException e) {
-			log.error("Error calling Kakao Walking Directions API: {}", e.getMessage());
-			throw new RuntimeException("카카오 도보 길찾기 API 호출 중 오류가 발생했습니다: " + e.getMessage());
+		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(KAKAO_WALKING_DIRECTIONS_URL)
+			.queryParam("origin", request.getOriginCoordinates())
+			.queryParam("destination", request.getDestinationCoordinates());
+
+		if (request.waypoints() != null && !request.waypoints().isEmpty()) {
+			builder.queryParam("waypoints", request.waypoints());
+		}
+		if (request.priority() != null) {
+			builder.queryParam("priority", request.priority());
+		}
+		if (request.summary() != null) {
+			builder.queryParam("summary", request.summary());
 		}
+		if (request.defaultSpeed() != null) {
+			builder.queryParam("default_speed", request.defaultSpeed());
+		}
+
+		String url = builder.build().toUriString();
+		log.info("Kakao Walking Directions API URL: {}", url);
+
+		HttpEntity<Void> entity = new HttpEntity<>(createDirectionsHeaders());
+		return callKakao(KakaoPriority.INTERACTIVE, () -> exchangeDirections(url, HttpMethod.GET, entity));
 	}
 
 	public KakaoWalkingDirectionsResponse getWalkingDirectionsWithWaypoints(WalkingWaypointsRequest request) {
 		try {
-			log.info("Calling Kakao Walking Waypoints API with origin: {}, destination: {}, waypoints: {}",
-				request.origin(), request.destination(), request.waypoints() != null ? request.waypoints().size() : 0);
-			log.info("Request body: {}", request);
+			// 격자 단위로 같은 경로 요청은 캐시에서 응답
+			return kakaoRouteCache.get(request, () -> requestWalkingDirectionsWithWaypoints(request));
+		} catch (CustomException e) {
+			// 카카오 장애 시 같은 경로의 마지막 응답이 있으면 대신 사용
+			KakaoWalkingDirectionsResponse staleRoute = kakaoRouteCache.getStale(request).orElseThrow(() -> e);
+			log.warn("Serving stale walking directions: {}", e.getMessage());
+			staleRouteFallbacks.increment();
+			return staleRoute;
+		}
+	}
+
+	// 호출 스레드를 막지 않는 버전, 카카오 응답 대기는 kakaoTaskExecutor에서 수행
+	// executor가 가득 차서 거절하면 호출 혼잡(503)으로 응답
+	public CompletableFuture<KakaoWalkingDirectionsResponse> getWalkingDirectionsWithWaypointsAsync(
+		WalkingWaypointsRequest request) {
+		try {
+			return CompletableFuture.supplyAsync(() -> getWalkingDirectionsWithWaypoints(request), kakaoTaskExecutor);
+		} catch (RejectedExecutionException e) {
+			log.warn("Kakao task executor rejected a walking directions request");
+			return CompletableFuture.failedFuture(new CustomException(ErrorCode.LOCATION_KAKAO_API_BUSY));
+		}
+	}
 
-			HttpHeaders headers = new HttpHeaders();
-			headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-			headers.set("Content-Type", "application/json");
-			headers.set("Accept", "application/json");
-			headers.set("service", "dongbaekro");
+	private KakaoWalkingDirectionsResponse requestWalkingDirectionsWithWaypoints(WalkingWaypointsRequest request) {
+		log.info("Calling Kakao Walking Waypoints API with origin: {}, destination: {}, waypoints: {}",
+			request.origin(), request.destination(), request.waypoints() != null ? request.waypoints().size() : 0);
+		log.debug("Request body: {}", request);
 
-			HttpEntity<WalkingWaypointsRequest> entity = new HttpEntity<>(request, headers);
-			log.info("Request headers: {}", headers);
-			log.info("Request entity: {}", entity.getBody());
+		HttpEntity<WalkingWaypointsRequest> entity = new HttpEntity<>(request, createDirectionsHeaders());
+		return callKakao(KakaoPriority.INTERACTIVE,
+			() -> exchangeDirections(KAKAO_WALKING_WAYPOINTS_URL, HttpMethod.POST, entity));
+	}
 
-			// 디버깅을 위해 먼저 String으로 응답 확인
-			ResponseEntity<String> rawResponse = restTemplate.exchange(
-				KAKAO_WALKING_WAYPOINTS_URL, HttpMethod.POST, entity, String.class);
+	// 호출 한도 토큰은 시도(재시도 포함)마다 받되, 벌크헤드와 느린 호출 판정 시간 밖에서 기다린다.
+	private <T> T callKakao(KakaoPriority priority, Supplier<T> call) {
+		return kakaoResilience.execute(() -> kakaoRateLimiter.acquire(priority), call);
+	}
 
-			log.info("Raw Kakao Waypoints API Response: {}", rawResponse.getBody());
+	private HttpHeaders createDirectionsHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+		headers.set("Content-Type", "application/json");
+		headers.set("Accept", "application/json");
+		headers.set("service", "dongbaekro");
+		return headers;
+	}
 
-			ResponseEntity<KakaoWalkingDirectionsResponse> response = restTemplate.exchange(
-				KAKAO_WALKING_WAYPOINTS_URL, HttpMethod.POST, entity, KakaoWalkingDirectionsResponse.class);
+	// 한 번의 HTTP 호출로 응답 스트림을 바로 경로 모델로 파싱
+	// 응답이 늦으면 같은 요청을 한 번 더 보내는 헤지 대상 (kakao.hedging.enabled)
+	// 벌크헤드 자리는 KakaoHedging이 HTTP 시도마다 잡는다.
+	private KakaoWalkingDirectionsResponse exchangeDirections(String url, HttpMethod method, HttpEntity<?> entity) {
+		RequestCallback requestCallback = restTemplate.httpEntityCallback(entity, KakaoWalkingDirectionsResponse.class);
+		return kakaoHedging.execute(() -> restTemplate.execute(url, method, requestCallback, this::readDirections));
+	}
 
-			return response.getBody();
-		} catch (RestClientException e) {
-			log.error("Error calling Kakao Walking Waypoints API: {}", e.getMessage());
-			throw new RuntimeException("카카오 경유지 도보 길찾기 API 호출 중 오류가 발생했습니다: " + e.getMessage());
+	private KakaoWalkingDirectionsResponse readDirections(ClientHttpResponse response) throws IOException {
+		// 원본 응답 로깅은 kakao.debug.raw-response-sample-rate 비율만큼만 (기본 0, 디버그 전용)
+		if (rawResponseSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < rawResponseSampleRate) {
+			byte[] body = StreamUtils.copyToByteArray(response.getBody());
+			log.debug("Raw Kakao API Response: {}", new String(body, StandardCharsets.UTF_8));
+			return objectMapper.readValue(body, KakaoWalkingDirectionsResponse.class);
 		}
+
+		return objectMapper.readValue(response.getBody(), KakaoWalkingDirectionsResponse.class);
 	}
 }
\ No newline at end of file
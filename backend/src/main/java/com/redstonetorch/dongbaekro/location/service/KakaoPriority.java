@@ -0,0 +1,11 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+// 카카오 API 호출 우선순위 (쿼터를 나눠 쓸 때 앞선 순서가 먼저 토큰을 받는다)
+public enum KakaoPriority {
+	// 긴급 신고/동네 화면에서 쓰는 지역 코드 조회
+	CRITICAL,
+	// 사용자가 기다리는 경로 탐색
+	INTERACTIVE,
+	// 헤지 요청, 캐시 예열 등 실패해도 되는 호출
+	BACKGROUND
+}
@@ -0,0 +1,183 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 카카오 API 키 쿼터를 나눠 쓰는 우선순위별 토큰 버킷
+// - 초당 permits-per-second개씩 최대 burst개까지 토큰이 쌓이고, 호출마다 하나씩 사용한다.
+// - 높은 우선순위가 기다리는 동안 낮은 우선순위는 토큰을 받지 못하고,
+//   BACKGROUND는 버킷의 background-reserve 비율만큼은 남겨 두어 CRITICAL/INTERACTIVE 몫을 보장한다.
+// - 토큰이 없으면 우선순위별 최대 대기 시간까지만 기다리고, 넘으면 429로 응답한다. (카카오 쿼터 초과 전에 거절)
+// 가상 스레드에서도 캐리어 스레드를 고정하지 않도록 synchronized 대신 ReentrantLock을 사용한다.
+// 시간은 MeterRegistry의 Clock으로 재므로, 테스트에서는 MockClock을 쓴 레지스트리로 토큰 적립과 대기 마감을 직접 진행시킬 수 있다.
+@Component
+public class KakaoRateLimiter {
+
+	private static final KakaoPriority[] PRIORITIES = KakaoPriority.values();
+
+	private final Clock clock;
+	private final boolean enabled;
+	private final double permitsPerNano;
+	private final double capacity;
+	private final double backgroundReserve;
+	private final long[] maxWaitNanos = new long[PRIORITIES.length];
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition tokenAvailable = lock.newCondition();
+	private final AtomicIntegerArray waiting = new AtomicIntegerArray(PRIORITIES.length);
+	private double tokens;
+	private long lastRefillNanos;
+
+	private final Timer[] waitTimers = new Timer[PRIORITIES.length];
+	private final Counter[] rejections = new Counter[PRIORITIES.length];
+
+	public KakaoRateLimiter(MeterRegistry meterRegistry,
+		@Value("${kakao.rate-limit.enabled:true}") boolean enabled,
+		@Value("${kakao.rate-limit.permits-per-second:50}") double permitsPerSecond,
+		@Value("${kakao.rate-limit.burst:50}") int burst,
+		@Value("${kakao.rate-limit.background-reserve:0.2}") double backgroundReserve,
+		@Value("${kakao.rate-limit.max-wait.critical:2s}") Duration criticalMaxWait,
+		@Value("${kakao.rate-limit.max-wait.interactive:1s}") Duration interactiveMaxWait,
+		@Value("${kakao.rate-limit.max-wait.background:100ms}") Duration backgroundMaxWait) {
+		this.clock = meterRegistry.config().clock();
+		this.enabled = enabled;
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = burst;
+		this.backgroundReserve = burst * backgroundReserve;
+		this.maxWaitNanos[KakaoPriority.CRITICAL.ordinal()] = criticalMaxWait.toNanos();
+		this.maxWaitNanos[KakaoPriority.INTERACTIVE.ordinal()] = interactiveMaxWait.toNanos();
+		this.maxWaitNanos[KakaoPriority.BACKGROUND.ordinal()] = backgroundMaxWait.toNanos();
+		this.tokens = burst;
+		this.lastRefillNanos = clock.monotonicTime();
+
+		Gauge.builder("kakao.ratelimit.tokens", this, KakaoRateLimiter::availableTokens)
+			.description("Kakao API tokens currently available")
+			.register(meterRegistry);
+		for (KakaoPriority priority : PRIORITIES) {
+			String lane = priority.name().toLowerCase();
+			Gauge.builder("kakao.ratelimit.queue", waiting, queue -> queue.get(priority.ordinal()))
+				.description("Kakao calls waiting for a token")
+				.tag("lane", lane)
+				.register(meterRegistry);
+			waitTimers[priority.ordinal()] = Timer.builder("kakao.ratelimit.wait")
+				.description("Time spent waiting for a Kakao API token")
+				.tag("lane", lane)
+				.register(meterRegistry);
+			rejections[priority.ordinal()] = Counter.builder("kakao.ratelimit.rejected")
+				.description("Kakao calls rejected after waiting for a token")
+				.tag("lane", lane)
+				.register(meterRegistry);
+		}
+	}
+
+	// 토큰을 얻을 때까지 우선순위별 최대 대기 시간만큼 기다린다. 시간 안에 얻지 못하면 CustomException
+	public void acquire(KakaoPriority priority) {
+		if (!enabled) {
+			return;
+		}
+
+		int lane = priority.ordinal();
+		long start = clock.monotonicTime();
+		long deadline = start + maxWaitNanos[lane];
+		boolean acquired = false;
+
+		waiting.incrementAndGet(lane);
+		lock.lock();
+		try {
+			while (!(acquired = tryTake(lane))) {
+				long remaining = deadline - clock.monotonicTime();
+				if (remaining <= 0) {
+					break;
+				}
+				// 다음 토큰이 쌓일 시점이나 마감 중 빠른 쪽까지 대기 (토큰을 쓴 쪽이 깨우지 않아도 스스로 재확인)
+				tokenAvailable.awaitNanos(Math.min(remaining, nanosUntilAvailable(lane)));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			waiting.decrementAndGet(lane);
+			// 이 스레드가 빠지면서 낮은 우선순위가 토큰을 받을 수 있게 되었을 수 있다.
+			tokenAvailable.signalAll();
+			lock.unlock();
+		}
+
+		waitTimers[lane].record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+		if (!acquired) {
+			rejections[lane].increment();
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_RATE_LIMITED);
+		}
+	}
+
+	// 기다리지 않고 바로 얻을 수 있을 때만 토큰 사용
+	public boolean tryAcquire(KakaoPriority priority) {
+		if (!enabled) {
+			return true;
+		}
+
+		lock.lock();
+		try {
+			boolean acquired = tryTake(priority.ordinal());
+			if (!acquired) {
+				rejections[priority.ordinal()].increment();
+			}
+			return acquired;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// lock을 잡은 상태에서 호출
+	private boolean tryTake(int lane) {
+		refill();
+		for (int higher = 0; higher < lane; higher++) {
+			if (waiting.get(higher) > 0) {
+				return false;
+			}
+		}
+		if (tokens < requiredTokens(lane)) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+
+	private double requiredTokens(int lane) {
+		return lane == KakaoPriority.BACKGROUND.ordinal() ? 1 + backgroundReserve : 1;
+	}
+
+	private void refill() {
+		long now = clock.monotonicTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+		lastRefillNanos = now;
+	}
+
+	private long nanosUntilAvailable(int lane) {
+		return Math.max(TimeUnit.MILLISECONDS.toNanos(1),
+			(long)Math.ceil((requiredTokens(lane) - tokens) / permitsPerNano));
+	}
+
+	private double availableTokens() {
+		lock.lock();
+		try {
+			refill();
+			return tokens;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 카카오 API 호출 보호: Retry(CircuitBreaker(호출)) 순서로 감싸고, 벌크헤드는 실제 HTTP 시도마다(withPermit) 적용한다.
+// - 서킷 브레이커: 최근 N초 동안의 실패율/느린 호출 비율이 기준을 넘으면 일정 시간 호출 차단
+// - 벌크헤드: 동시 호출 수 제한, 자리가 없으면 짧게만 대기 후 거절
+// - 재시도: 네트워크 오류/5xx/429만 지수 백오프 + 지터로 재시도, 전체 호출 대비 재시도 비율은 예산으로 제한
+// 상태와 거절 수는 resilience4j.* 및 kakao.resilience.* 지표로 노출된다.
+@Slf4j
+@Component
+public class KakaoResilience {
+
+	private static final String NAME = "kakao";
+
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+	private final Retry retry;
+	private final CallBudget retryBudget;
+	private final Counter circuitOpenRejections;
+	private final Counter bulkheadRejections;
+	private final Counter retryBudgetExhausted;
+
+	public KakaoResilience(MeterRegistry meterRegistry,
+		@Value("${kakao.resilience.circuit-breaker.window:30s}") Duration window,
+		@Value("${kakao.resilience.circuit-breaker.minimum-calls:20}") int minimumCalls,
+		@Value("${kakao.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+		@Value("${kakao.resilience.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+		@Value("${kakao.resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+		@Value("${kakao.resilience.circuit-breaker.open-duration:15s}") Duration openDuration,
+		@Value("${kakao.resilience.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+		@Value("${kakao.resilience.bulkhead.max-wait:200ms}") Duration maxWait,
+		@Value("${kakao.resilience.retry.max-attempts:2}") int maxAttempts,
+		@Value("${kakao.resilience.retry.initial-backoff:100ms}") Duration initialBackoff,
+		@Value("${kakao.resilience.retry.budget-ratio:0.1}") double retryBudgetRatio) {
+
+		CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+			.slidingWindowType(CircuitBreakerConfig.SlidingWindowType.TIME_BASED)
+			.slidingWindowSize((int)Math.max(1, window.toSeconds()))
+			.minimumNumberOfCalls(minimumCalls)
+			.failureRateThreshold(failureRateThreshold)
+			.slowCallDurationThreshold(slowCallDuration)
+			.slowCallRateThreshold(slowCallRateThreshold)
+			.waitDurationInOpenState(openDuration)
+			.permittedNumberOfCallsInHalfOpenState(5)
+			.automaticTransitionFromOpenToHalfOpenEnabled(true)
+			.recordException(KakaoResilience::isTransientFailure)
+			// 호출 전 거절(호출 한도 등)은 카카오 상태와 무관하므로 집계에서 제외
+			.ignoreExceptions(CustomException.class)
+			.build());
+		BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+			.maxConcurrentCalls(maxConcurrentCalls)
+			.maxWaitDuration(maxWait)
+			.build());
+		RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+			.maxAttempts(maxAttempts)
+			.intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoff, 2.0, 0.5))
+			.retryOnException(this::shouldRetry)
+			.build());
+
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+		this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+		this.retry = retryRegistry.retry(NAME);
+		this.retryBudget = new CallBudget(retryBudgetRatio);
+
+		// resilience4j.circuitbreaker.state, .calls{kind}, resilience4j.bulkhead.available.concurrent.calls,
+		// resilience4j.retry.calls{kind} 등
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+		TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+		TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+
+		this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+		this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+		this.retryBudgetExhausted = Counter.builder("kakao.resilience.retry.budget.exhausted")
+			.description("Retries skipped because the retry budget was exhausted")
+			.register(meterRegistry);
+
+		circuitBreaker.getEventPublisher().onStateTransition(event ->
+			log.warn("Kakao circuit breaker state changed: {}", event.getStateTransition()));
+	}
+
+	// 보호 장치를 거쳐 호출, 실패는 모두 CustomException으로 변환
+	// beforeAttempt(호출 한도 토큰 대기)는 시도마다 서킷 브레이커/벌크헤드 밖에서 실행해
+	// 토큰을 기다리는 동안 벌크헤드 자리를 잡거나 그 시간이 느린 호출로 집계되지 않도록 한다.
+	// call 안의 HTTP 요청은 withPermit(헤지는 tryAcquirePermit)으로 벌크헤드 자리를 잡아야 한다.
+	public <T> T execute(Runnable beforeAttempt, Supplier<T> call) {
+		retryBudget.deposit();
+		Supplier<T> protectedCall = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+		Supplier<T> decorated = Retry.decorateSupplier(retry, () -> {
+			beforeAttempt.run();
+			return protectedCall.get();
+		});
+
+		try {
+			return decorated.get();
+		} catch (CallNotPermittedException e) {
+			circuitOpenRejections.increment();
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE);
+		} catch (BulkheadFullException e) {
+			bulkheadRejections.increment();
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_API_BUSY);
+		} catch (RestClientException e) {
+			log.error("Error calling Kakao API: {}", e.getMessage());
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_API_ERROR);
+		}
+	}
+
+	// HTTP 시도 하나가 끝날 때까지 벌크헤드 자리를 차지, 자리가 없으면 max-wait까지 기다린 뒤 거절(503)
+	// 헤지의 기본 요청은 다른 스레드에서 실행되므로, 호출 측이 먼저 반환해도 끝날 때까지 자리를 유지한다.
+	public <T> T withPermit(Supplier<T> call) {
+		return Bulkhead.decorateSupplier(bulkhead, call).get();
+	}
+
+	// 헤지 요청도 동시 호출 수에 포함, 자리가 없으면 기다리지 않고 false
+	public boolean tryAcquirePermit() {
+		return bulkhead.tryAcquirePermission();
+	}
+
+	public void releasePermit() {
+		bulkhead.onComplete();
+	}
+
+	private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("kakao.resilience.rejected")
+			.description("Kakao calls rejected before reaching the network")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private boolean shouldRetry(Throwable throwable) {
+		if (!isTransientFailure(throwable)) {
+			return false;
+		}
+		if (!retryBudget.tryWithdraw()) {
+			retryBudgetExhausted.increment();
+			return false;
+		}
+		return true;
+	}
+
+	// 네트워크 오류(타임아웃 등), 5xx, 429만 일시적 장애로 본다. 그 외 4xx는 요청 문제이므로 제외
+	private static boolean isTransientFailure(Throwable throwable) {
+		if (throwable instanceof HttpStatusCodeException e) {
+			return e.getStatusCode().is5xxServerError()
+				|| e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+		}
+		return throwable instanceof RestClientException;
+	}
+}
@@ -0,0 +1,144 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 카카오 도보 경로 응답 캐시
+// 출발지/목적지/경유지를 격자(기본 10m)에 맞춰 키를 만들기 때문에, 같은 통학/통근 경로를 반복 조회하면
+// 좌표가 조금 달라도 외부 API를 호출하지 않는다.
+// 카카오 호출은 캐시 내부 잠금(ConcurrentHashMap.compute) 밖에서 수행하므로, 가상 스레드에서 호출해도
+// 응답을 기다리는 동안 캐리어 스레드가 고정(pinning)되지 않는다.
+// 만료된 응답도 stale-ttl 동안 따로 보관해 카카오 장애 시 대체 응답으로 사용한다.
+// 경로를 찾지 못했거나(result_code != 0) 빈 응답은 일시적인 결과일 수 있으므로 어느 쪽에도 저장하지 않는다.
+@Component
+public class KakaoRouteCache {
+
+	private static final String CACHE_NAME = "kakao.walking-directions";
+
+	private final AsyncCache<RouteKey, KakaoWalkingDirectionsResponse> cache;
+	private final Cache<RouteKey, KakaoWalkingDirectionsResponse> staleCache;
+	private final Timer loadTimer;
+	private final double gridDegrees;
+
+	public KakaoRouteCache(MeterRegistry meterRegistry,
+		@Value("${kakao.route-cache.grid-meters:10}") double gridMeters,
+		@Value("${kakao.route-cache.maximum-size:10000}") long maximumSize,
+		@Value("${kakao.route-cache.ttl:6h}") Duration ttl,
+		@Value("${kakao.route-cache.stale-ttl:7d}") Duration staleTtl) {
+		// 경도 방향 격자도 위도 기준 크기를 사용 (국내 위도에서 약 8m로 더 촘촘해질 뿐 키가 뒤섞이지 않음)
+		this.gridDegrees = GeoDistance.metersToLatitudeDegrees(gridMeters);
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.buildAsync();
+		this.staleCache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(staleTtl)
+			.build();
+		this.loadTimer = Timer.builder("kakao.route.cache.load")
+			.description("Latency of Kakao walking directions calls on cache miss")
+			.register(meterRegistry);
+
+		// cache.gets{result=hit|miss}, cache.evictions, cache.size 등
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+	}
+
+	// 캐시에 없으면 loader로 조회해 저장, 같은 키의 동시 조회는 한 번만 호출된다.
+	// 잠금 안에서는 빈 future만 등록하고, 등록에 성공한 호출자가 잠금 밖에서 loader를 실행해 future를 완료한다.
+	public KakaoWalkingDirectionsResponse get(WalkingWaypointsRequest request,
+		Supplier<KakaoWalkingDirectionsResponse> loader) {
+		RouteKey routeKey = createKey(request);
+		CompletableFuture<KakaoWalkingDirectionsResponse> pending = new CompletableFuture<>();
+		CompletableFuture<KakaoWalkingDirectionsResponse> cached = cache.get(routeKey, (key, executor) -> pending);
+		if (cached != pending) {
+			return join(cached);
+		}
+
+		try {
+			KakaoWalkingDirectionsResponse response = loadTimer.record(loader);
+			if (isSuccessful(response)) {
+				staleCache.put(routeKey, response);
+			} else {
+				// 이미 기다리는 동시 조회자는 같은 응답을 받고, 이후 조회는 다시 호출한다.
+				cache.asMap().remove(routeKey, pending);
+			}
+			// 실패하거나 null로 완료된 항목은 캐시에서 자동으로 제거된다.
+			pending.complete(response);
+			return response;
+		} catch (RuntimeException e) {
+			pending.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// 카카오 장애 시 사용할 마지막 응답 (만료된 항목 포함)
+	public Optional<KakaoWalkingDirectionsResponse> getStale(WalkingWaypointsRequest request) {
+		return Optional.ofNullable(staleCache.getIfPresent(createKey(request)));
+	}
+
+	private static boolean isSuccessful(KakaoWalkingDirectionsResponse response) {
+		return response != null && response.routes() != null && !response.routes().isEmpty()
+			&& response.routes().stream().allMatch(route -> route.resultCode() == 0);
+	}
+
+	private KakaoWalkingDirectionsResponse join(CompletableFuture<KakaoWalkingDirectionsResponse> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private RouteKey createKey(WalkingWaypointsRequest request) {
+		List<Long> waypoints = new ArrayList<>();
+		if (request.waypoints() != null) {
+			for (WalkingWaypointsRequest.Coordinate waypoint : request.waypoints()) {
+				waypoints.add(snap(waypoint.x()));
+				waypoints.add(snap(waypoint.y()));
+			}
+		}
+
+		return new RouteKey(
+			snap(request.origin().x()), snap(request.origin().y()),
+			snap(request.destination().x()), snap(request.destination().y()),
+			waypoints, request.priority()
+		);
+	}
+
+	private long snap(double coordinate) {
+		return (long)Math.floor(coordinate / gridDegrees);
+	}
+
+	private record RouteKey(
+		long originX,
+		long originY,
+		long destinationX,
+		long destinationY,
+		List<Long> waypoints,
+		String priority
+	) {
+	}
+}
@@ -0,0 +1,25 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+// 카카오 다중 경유지 길찾기 API (캐시, 호출 보호, 헤지, 호출 한도 포함)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "safe-route.provider", havingValue = "kakao", matchIfMissing = true)
+public class KakaoWalkingRouteProvider implements WalkingRouteProvider {
+
+	private final KakaoLocationService kakaoLocationService;
+
+	@Override
+	public CompletableFuture<KakaoWalkingDirectionsResponse> findRoute(WalkingWaypointsRequest request) {
+		return kakaoLocationService.getWalkingDirectionsWithWaypointsAsync(request);
+	}
+}
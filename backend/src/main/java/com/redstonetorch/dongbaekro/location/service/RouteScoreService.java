@@ -0,0 +1,101 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.RouteScoreRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.RouteScoreResponse;
+import com.redstonetorch.dongbaekro.location.spatial.EncodedPolyline;
+import com.redstonetorch.dongbaekro.location.spatial.RouteCoverage;
+import com.redstonetorch.dongbaekro.location.spatial.RoutePolyline;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import lombok.RequiredArgsConstructor;
+
+// 임의의 경로 폴리라인 안전도 평가
+// 카카오 호출이나 DB 조회 없이 메모리 공간 인덱스만 사용하므로 후보 경로 여러 개를 한 번에 평가할 수 있다.
+@Service
+@RequiredArgsConstructor
+public class RouteScoreService {
+
+	private static final int DEFAULT_PRECISION = 5;
+	// 경로 하나당 정점 수 상한 (도보 경로는 보통 수백 개)
+	private static final int MAX_POINTS_PER_ROUTE = 20_000;
+
+	private final SafetyFacilityIndex safetyFacilityIndex;
+
+	@Value("${safe-route.coverage.radius-meters:30}")
+	private double defaultRadiusMeters;
+
+	public List<RouteScoreResponse> scoreRoutes(RouteScoreRequest request) {
+		double radius = request.radius() != null ? request.radius() : defaultRadiusMeters;
+
+		List<RouteScoreResponse> scores = new ArrayList<>(request.routes().size());
+		for (int i = 0; i < request.routes().size(); i++) {
+			RoutePolyline polyline = RoutePolyline.of(toCoordinates(request.routes().get(i)));
+			scores.add(toResponse(i, safetyFacilityIndex.measureCoverage(polyline, radius, null)));
+		}
+		return scores;
+	}
+
+	private double[] toCoordinates(RouteScoreRequest.RouteInput route) {
+		boolean hasVertexes = route.vertexes() != null;
+		boolean hasEncoded = route.encodedPolyline() != null && !route.encodedPolyline().isBlank();
+		if (hasVertexes == hasEncoded) {
+			throw new CustomException(ErrorCode.LOCATION_INVALID_POLYLINE);
+		}
+
+		double[] coordinates;
+		if (hasVertexes) {
+			if (route.vertexes().length % 2 != 0) {
+				throw new CustomException(ErrorCode.LOCATION_INVALID_POLYLINE);
+			}
+			coordinates = route.vertexes();
+		} else {
+			try {
+				coordinates = EncodedPolyline.decode(route.encodedPolyline(),
+					route.precision() != null ? route.precision() : DEFAULT_PRECISION);
+			} catch (IllegalArgumentException e) {
+				throw new CustomException(ErrorCode.LOCATION_INVALID_POLYLINE);
+			}
+		}
+
+		if (coordinates.length < 4 || coordinates.length / 2 > MAX_POINTS_PER_ROUTE) {
+			throw new CustomException(ErrorCode.LOCATION_INVALID_POLYLINE);
+		}
+		for (int i = 0; i < coordinates.length; i += 2) {
+			if (!(Math.abs(coordinates[i]) <= 180 && Math.abs(coordinates[i + 1]) <= 90)) {
+				throw new CustomException(ErrorCode.LOCATION_INVALID_POLYLINE);
+			}
+		}
+		return coordinates;
+	}
+
+	private RouteScoreResponse toResponse(int index, RouteCoverage coverage) {
+		List<RouteScoreResponse.TypeScore> types = new ArrayList<>();
+		for (SafetyFacilityType type : SafetyFacilityType.values()) {
+			RouteCoverage.Lane lane = coverage.forType(type);
+			types.add(new RouteScoreResponse.TypeScore(
+				type, toPercent(lane.coveredRatio()), (int)Math.round(lane.longestGapMeters()), lane.facilityCount()));
+		}
+
+		return new RouteScoreResponse(
+			index,
+			(int)Math.round(coverage.routeLength()),
+			toPercent(coverage.combined().coveredRatio()),
+			(int)Math.round(coverage.combined().longestGapMeters()),
+			types
+		);
+	}
+
+	// 소수점 첫째 자리까지
+	private double toPercent(double ratio) {
+		return Math.round(ratio * 1000) / 10.0;
+	}
+}
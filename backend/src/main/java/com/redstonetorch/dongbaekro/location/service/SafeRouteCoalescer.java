@@ -0,0 +1,114 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 같은 안전 경로 요청의 동시 계산을 하나로 합치는 single-flight
+// 하교 시간처럼 같은 출발지/목적지 요청이 몰리면 첫 요청만 카카오 호출과 시설 조회를 수행하고,
+// 계산이 끝나기 전에 들어온 같은 요청은 그 결과를 함께 받는다. (완료된 결과는 보관하지 않음)
+@Component
+public class SafeRouteCoalescer {
+
+	private final ConcurrentHashMap<CoalescingKey, CompletableFuture<SafeRouteResponse>> inFlight =
+		new ConcurrentHashMap<>();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final double gridDegrees;
+
+	public SafeRouteCoalescer(MeterRegistry meterRegistry,
+		@Value("${safe-route.coalescing.grid-meters:10}") double gridMeters) {
+		this.gridDegrees = GeoDistance.metersToLatitudeDegrees(gridMeters);
+
+		FunctionCounter.builder("safe.route.coalescing.requests", requests, LongAdder::sum)
+			.description("Safe route requests received")
+			.register(meterRegistry);
+		FunctionCounter.builder("safe.route.coalescing.coalesced", coalesced, LongAdder::sum)
+			.description("Safe route requests that joined an in-flight computation")
+			.register(meterRegistry);
+		Gauge.builder("safe.route.coalescing.ratio", this, SafeRouteCoalescer::coalescingRatio)
+			.description("Share of safe route requests served by another request's computation")
+			.register(meterRegistry);
+		Gauge.builder("safe.route.coalescing.in-flight", inFlight, ConcurrentHashMap::size)
+			.description("Distinct safe route computations in progress")
+			.register(meterRegistry);
+	}
+
+	public CompletableFuture<SafeRouteResponse> execute(SafeRouteRequest request,
+		Supplier<CompletableFuture<SafeRouteResponse>> computation) {
+		requests.increment();
+		CoalescingKey key = createKey(request);
+
+		CompletableFuture<SafeRouteResponse> leader = new CompletableFuture<>();
+		CompletableFuture<SafeRouteResponse> existing = inFlight.putIfAbsent(key, leader);
+		if (existing != null) {
+			coalesced.increment();
+			// 한 요청이 취소되어도 공유 계산에는 영향이 없도록 복사본을 반환
+			return existing.copy();
+		}
+
+		try {
+			computation.get().whenComplete((response, e) -> {
+				inFlight.remove(key, leader);
+				if (e != null) {
+					leader.completeExceptionally(e);
+				} else {
+					leader.complete(response);
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, leader);
+			leader.completeExceptionally(e);
+		}
+		return leader.copy();
+	}
+
+	private double coalescingRatio() {
+		long total = requests.sum();
+		return total == 0 ? 0.0 : (double)coalesced.sum() / total;
+	}
+
+	// 좌표는 격자(기본 10m)에 맞추고, 선호 타입은 순서/중복과 무관하게 비교 (미지정은 전체), 추가 거리/시간 제한은 그대로 비교
+	private CoalescingKey createKey(SafeRouteRequest request) {
+		Set<SafetyFacilityType> types = request.preferredFacilityTypes() == null
+			|| request.preferredFacilityTypes().isEmpty()
+			? EnumSet.allOf(SafetyFacilityType.class)
+			: EnumSet.copyOf(request.preferredFacilityTypes());
+
+		return new CoalescingKey(
+			snap(request.originLatitude()), snap(request.originLongitude()),
+			snap(request.destinationLatitude()), snap(request.destinationLongitude()),
+			types, request.maxDetourMeters(), request.maxDetourSeconds()
+		);
+	}
+
+	private long snap(double coordinate) {
+		return (long)Math.floor(coordinate / gridDegrees);
+	}
+
+	private record CoalescingKey(
+		long originLatitude,
+		long originLongitude,
+		long destinationLatitude,
+		long destinationLongitude,
+		Set<SafetyFacilityType> types,
+		Integer maxDetourMeters,
+		Integer maxDetourSeconds
+	) {
+	}
+}
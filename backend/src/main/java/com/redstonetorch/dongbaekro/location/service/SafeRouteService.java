@@ -1,12 +1,25 @@
 package com.redstonetorch.dongbaekro.location.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.enums.WaypointStrategy;
+import com.redstonetorch.dongbaekro.common.util.LongHashSet;
 import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
 import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
 import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
@@ -14,7 +27,20 @@ import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
 import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
 import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
 import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
-
+import com.redstonetorch.dongbaekro.location.spatial.CorridorFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+import com.redstonetorch.dongbaekro.location.spatial.LocalPlane;
+import com.redstonetorch.dongbaekro.location.spatial.PolylineSimplifier;
+import com.redstonetorch.dongbaekro.location.spatial.RouteCoverage;
+import com.redstonetorch.dongbaekro.location.spatial.RoutePolyline;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,35 +50,326 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class SafeRouteService {
 
-	private final KakaoLocationService kakaoLocationService;
+	private final WalkingRouteProvider walkingRouteProvider;
 	private final SafetyFacilityRepository safetyFacilityRepository;
+	private final SafetyFacilityIndex safetyFacilityIndex;
+	private final SafeRouteCoalescer safeRouteCoalescer;
+	private final MeterRegistry meterRegistry;
 
 	private static final double SEARCH_RADIUS_METERS = 100.0;
-	private static final int MAX_WAYPOINTS = 15; // 카카오 API 제한
+	// 단순화 허용 오차만큼 검색 반경을 넓혀 원래 경로의 검색 통로를 빠짐없이 포함한다.
+	private static final double SIMPLIFY_TOLERANCE_METERS = SEARCH_RADIUS_METERS * 0.1;
+	private static final int MAX_WAYPOINTS = 15; // 카카오 API 제한 (호출 1회당)
+	// 긴 경로는 여러 구간으로 나눠 구간마다 최대 MAX_WAYPOINTS개씩 요청
+	private static final int MAX_TOTAL_WAYPOINTS = MAX_WAYPOINTS * 3;
+	private static final int METERS_PER_WAYPOINT = 330;
+	// 균등 간격 다음으로 시도하는 경유지 선택 전략
+	private static final List<WaypointStrategy> ALTERNATIVE_STRATEGIES = List.of(
+		WaypointStrategy.TYPE_WEIGHTED, WaypointStrategy.DENSITY, WaypointStrategy.MIN_DETOUR);
+
+	// 기본 경로가 선호 시설 반경 안을 이 비율 이상 지나면 경유지 경로를 요청하지 않는다.
+	@Value("${safe-route.coverage.enabled:true}")
+	private boolean coverageCheckEnabled;
+
+	@Value("${safe-route.coverage.radius-meters:30}")
+	private double coverageRadiusMeters;
+
+	@Value("${safe-route.coverage.threshold:0.8}")
+	private double coverageThreshold;
+
+	// 전략별 후보 경로를 동시에 요청하고 안전도 점수로 순위를 매긴다.
+	@Value("${safe-route.candidates.enabled:true}")
+	private boolean candidatesEnabled;
+
+	@Value("${safe-route.candidates.max:4}")
+	private int maxCandidates;
+
+	@Value("${safe-route.candidates.detour-penalty:0.5}")
+	private double detourPenalty;
+
+	// 구간으로 나눈 호출까지 센 후보 경로용 카카오 호출 수 상한
+	@Value("${safe-route.candidates.max-calls:6}")
+	private int maxCandidateCalls;
+
+	// 첫 후보가 도착한 뒤 나머지 후보를 기다리는 시간
+	@Value("${safe-route.candidates.grace:300ms}")
+	private Duration candidateGrace;
+
+	// 추가 거리/시간 제한이 있는 요청의 경유지 최적화 계산 시간 상한
+	@Value("${safe-route.optimizer.time-limit:50ms}")
+	private Duration optimizerTimeLimit;
+
+	private final LongAdder waypointRoutesRequested = new LongAdder();
+	private final LongAdder waypointRoutesSkipped = new LongAdder();
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("safe.route.coverage.skip.ratio", this, SafeRouteService::skipRatio)
+			.description("Share of safe routes answered with the original route because it was already covered")
+			.register(meterRegistry);
+	}
+
+	public CompletableFuture<SafeRouteResponse> generateSafeRoute(SafeRouteRequest request) {
+		// 같은 요청이 동시에 들어오면 계산은 한 번만 수행
+		return safeRouteCoalescer.execute(request, () -> computeSafeRoute(request));
+	}
 
-	public SafeRouteResponse generateSafeRoute(SafeRouteRequest request) {
+	// 카카오 호출 대기 중에는 어떤 스레드도 막지 않도록 단계별로 연결한 비동기 파이프라인
+	private CompletableFuture<SafeRouteResponse> computeSafeRoute(SafeRouteRequest request) {
 		// 1. 기본 경로 정보 조회
-		KakaoWalkingDirectionsResponse originalRoute = getOriginalRoute(request);
+		// 이후 단계는 카카오 호출 스레드가 아닌 공용 풀에서 실행 (동시 호출 제한 슬롯을 잡은 채 후보 경로를 다시 제출하지 않도록)
+		return getOriginalRoute(request).thenComposeAsync(originalRoute -> {
+			// 경로 좌표와 누적 거리는 경로당 한 번만 계산
+			RoutePolyline polyline = extractRoutePolyline(originalRoute);
+
+			// 기본 경로가 이미 충분히 안전시설 근처를 지나면 두 번째 카카오 호출 없이 그대로 사용
+			if (isSufficientlyCovered(polyline, request)) {
+				recordWaypointRouteDecision("skipped", waypointRoutesSkipped);
+				return CompletableFuture.completedFuture(
+					createSafeRouteResponse(originalRoute, new ArrayList<>(), originalRoute));
+			}
+			recordWaypointRouteDecision("requested", waypointRoutesRequested);
+
+			// 2. 경로 상의 안전시설 조회
+			List<CorridorFacility> nearbyFacilities = findNearbyFacilities(polyline, request);
+
+			// 3. 전략별 경유지 후보 선택 (추가 거리/시간 제한이 있으면 제한 안에서 최적화한 후보 포함)
+			Double detourBudget = detourBudgetMeters(originalRoute, request);
+			List<WaypointCandidate> candidates = selectCandidates(originalRoute, polyline, nearbyFacilities, request,
+				detourBudget);
+			if (candidates.isEmpty()) {
+				return CompletableFuture.completedFuture(
+					createSafeRouteResponse(originalRoute, new ArrayList<>(), null));
+			}
 
-		// 2. 경로 상의 안전시설 조회
-		List<SafetyFacility> nearbyFacilities = findNearbyFacilities(originalRoute, request);
+			// 4. 후보 경로를 동시에 요청하고 도착하는 대로 안전도 점수 계산
+			// 모든 후보가 실패했을 때 보고할 원인은 가장 먼저 실패한 후보의 것 (나중 실패로 덮어쓰지 않음)
+			AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+			List<CompletableFuture<ScoredRoute>> scoredRoutes = candidates.stream()
+				.map(candidate -> generateRouteWithWaypoints(request, candidate.waypoints())
+					.handle((route, e) -> {
+						if (e != null) {
+							if (!firstFailure.compareAndSet(null, e)) {
+								log.debug("{} candidate route also failed: {}", candidate.strategy(), e.getMessage());
+							}
+							return null;
+						}
+						return scoreRoute(candidate, route, originalRoute, request, detourBudget);
+					}))
+				.toList();
+
+			// 첫 후보가 점수를 받으면 나머지는 candidateGrace까지만 기다린다. (가장 느린 후보 하나가 응답 전체를 붙잡지 않도록)
+			// 성공한 후보가 없으면 모든 후보가 끝날 때까지 기다린 뒤 기본 경로로 대체한다.
+			CompletableFuture<Void> settled = CompletableFuture.allOf(scoredRoutes.toArray(CompletableFuture[]::new));
+			AtomicBoolean graceStarted = new AtomicBoolean();
+			for (CompletableFuture<ScoredRoute> scoredRoute : scoredRoutes) {
+				scoredRoute.thenAccept(scored -> {
+					if (scored != null && graceStarted.compareAndSet(false, true)) {
+						settled.completeOnTimeout(null, candidateGrace.toNanos(), TimeUnit.NANOSECONDS);
+					}
+				});
+			}
 
-		// 3. 적절한 경유지 선택
-		List<SafetyFacility> selectedWaypoints = selectOptimalWaypoints(
-			originalRoute, nearbyFacilities, request
-		);
+			// 5. 도착한 후보 중 점수가 가장 높은 경로와 나머지 후보로 응답 생성, 모든 후보가 실패하면 기본 경로로 대체
+			// 마감 타이머 스레드에서 DB 조회를 하지 않도록 공용 풀에서 실행
+			return settled
+				.thenApplyAsync(ignored -> {
+					long late = scoredRoutes.stream().filter(scoredRoute -> !scoredRoute.isDone()).count();
+					if (late > 0) {
+						recordLateCandidates(late);
+					}
+					List<ScoredRoute> arrived = scoredRoutes.stream()
+						.map(scoredRoute -> scoredRoute.getNow(null))
+						.filter(Objects::nonNull)
+						.toList();
+					if (arrived.isEmpty()) {
+						Throwable cause = firstFailure.get();
+						return createDegradedResponse(originalRoute, cause != null
+							? cause : new IllegalStateException("No candidate route was found"));
+					}
+					// 추가 거리 제한을 넘은 경로는 제외하고 점수 순
+					List<ScoredRoute> ranked = arrived.stream()
+						.filter(ScoredRoute::withinBudget)
+						.sorted(Comparator.comparingDouble(ScoredRoute::score).reversed())
+						.toList();
+					if (ranked.isEmpty()) {
+						return createOverBudgetResponse(originalRoute, arrived.size());
+					}
+					return createRankedResponse(originalRoute, ranked);
+				});
+		});
+	}
 
-		// 4. 안전 경로 생성
-		KakaoWalkingDirectionsResponse safeRoute = null;
-		if (!selectedWaypoints.isEmpty()) {
-			safeRoute = generateRouteWithWaypoints(request, selectedWaypoints);
+	// 같은 경유지 조합은 한 번만 요청하고, 후보 수는 safe-route.candidates.max로,
+	// 구간 호출까지 센 카카오 호출 수는 safe-route.candidates.max-calls로 제한
+	private List<WaypointCandidate> selectCandidates(KakaoWalkingDirectionsResponse originalRoute,
+		RoutePolyline polyline, List<CorridorFacility> facilities, SafeRouteRequest request, Double detourBudget) {
+		List<WaypointCandidate> candidates = new ArrayList<>();
+		if (detourBudget != null) {
+			addCandidate(candidates, WaypointStrategy.DETOUR_BUDGET,
+				optimizeWithinBudget(polyline, facilities, detourBudget));
+		}
+		addCandidate(candidates, WaypointStrategy.EVEN_SPACING, selectOptimalWaypoints(originalRoute, polyline,
+			facilities.stream().map(CorridorFacility::point).toList(), request));
+		if (!candidatesEnabled || facilities.isEmpty() || originalRoute.routes().isEmpty()) {
+			return candidates;
 		}
 
-		// 5. 응답 생성
-		return createSafeRouteResponse(originalRoute, selectedWaypoints, safeRoute);
+		int waypointCount = calculateOptimalWaypointCount(originalRoute.routes().get(0).summary().distance());
+		for (WaypointStrategy strategy : ALTERNATIVE_STRATEGIES) {
+			if (candidates.size() >= maxCandidates) {
+				break;
+			}
+			addCandidate(candidates, strategy,
+				WaypointSelector.select(strategy, facilities, polyline.length(), waypointCount));
+		}
+
+		log.info("Requesting {} candidate routes in {} calls: {}", candidates.size(),
+			candidates.stream().mapToInt(WaypointCandidate::calls).sum(),
+			candidates.stream().map(WaypointCandidate::strategy).toList());
+		return candidates;
+	}
+
+	// 추가 시간 제한은 기본 경로의 평균 보행 속도로 거리로 환산하고, 둘 다 있으면 더 작은 쪽을 사용
+	private Double detourBudgetMeters(KakaoWalkingDirectionsResponse originalRoute, SafeRouteRequest request) {
+		if (originalRoute.routes().isEmpty()
+			|| (request.maxDetourMeters() == null && request.maxDetourSeconds() == null)) {
+			return null;
+		}
+
+		double budget = Double.MAX_VALUE;
+		if (request.maxDetourMeters() != null) {
+			budget = request.maxDetourMeters();
+		}
+		var summary = originalRoute.routes().get(0).summary();
+		if (request.maxDetourSeconds() != null && summary.duration() > 0) {
+			double metersPerSecond = (double)summary.distance() / summary.duration();
+			budget = Math.min(budget, request.maxDetourSeconds() * metersPerSecond);
+		}
+		return budget == Double.MAX_VALUE ? null : Math.max(0.0, budget);
 	}
 
-	private KakaoWalkingDirectionsResponse getOriginalRoute(SafeRouteRequest request) {
+	private List<FacilityPoint> optimizeWithinBudget(RoutePolyline polyline, List<CorridorFacility> facilities,
+		double budgetMeters) {
+		long start = System.nanoTime();
+		DetourBudgetOptimizer optimizer = new DetourBudgetOptimizer(facilities, polyline.length(),
+			coverageRadiusMeters);
+		List<FacilityPoint> waypoints = optimizer.optimize(budgetMeters, MAX_TOTAL_WAYPOINTS,
+			optimizerTimeLimit.toNanos());
+
+		Timer.builder("safe.route.optimizer")
+			.description("Detour-budgeted waypoint optimization time")
+			.tag("deadline_reached", String.valueOf(optimizer.deadlineReached()))
+			.register(meterRegistry)
+			.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		log.info("Optimized {} waypoints from {} facilities within {}m detour budget (estimated {}m)",
+			waypoints.size(), facilities.size(), Math.round(budgetMeters), Math.round(optimizer.spentMeters()));
+		return waypoints;
+	}
+
+	private void addCandidate(List<WaypointCandidate> candidates, WaypointStrategy strategy,
+		List<FacilityPoint> waypoints) {
+		if (waypoints.isEmpty()) {
+			return;
+		}
+		int calls = chunkCount(waypoints.size());
+		for (WaypointCandidate candidate : candidates) {
+			if (candidate.waypoints().equals(waypoints)) {
+				return;
+			}
+			calls += candidate.calls();
+		}
+		// 첫 후보는 호출 수와 관계없이 요청
+		if (!candidates.isEmpty() && calls > maxCandidateCalls) {
+			log.debug("Skipping {} candidate: {} Kakao calls would exceed the limit of {}", strategy, calls,
+				maxCandidateCalls);
+			return;
+		}
+		candidates.add(new WaypointCandidate(strategy, waypoints));
+	}
+
+	// 점수 = 선호 시설 반경 안을 지나는 비율 - detourPenalty * 기본 경로 대비 추가 거리 비율
+	// 경로를 찾지 못한 후보는 null
+	private ScoredRoute scoreRoute(WaypointCandidate candidate, KakaoWalkingDirectionsResponse route,
+		KakaoWalkingDirectionsResponse originalRoute, SafeRouteRequest request, Double detourBudget) {
+		if (route == null || route.routes() == null || route.routes().isEmpty()
+			|| route.routes().get(0).resultCode() != 0) {
+			return null;
+		}
+
+		RouteCoverage coverage = safetyFacilityIndex.measureCoverage(extractRoutePolyline(route),
+			coverageRadiusMeters, request.preferredFacilityTypes());
+		double coveredRatio = coverage.combined().coveredRatio();
+		int originalDistance = originalRoute.routes().get(0).summary().distance();
+		int distance = route.routes().get(0).summary().distance();
+		double detourRatio = originalDistance > 0
+			? Math.max(0, distance - originalDistance) / (double)originalDistance
+			: 0.0;
+		boolean withinBudget = detourBudget == null || distance - originalDistance <= detourBudget;
+		return new ScoredRoute(candidate, route, coveredRatio, coveredRatio - detourPenalty * detourRatio,
+			withinBudget);
+	}
+
+	private void recordLateCandidates(long count) {
+		Counter.builder("safe.route.candidates.late")
+			.description("Candidate routes still pending when the grace period after the first candidate ended")
+			.register(meterRegistry)
+			.increment(count);
+	}
+
+	private boolean isSufficientlyCovered(RoutePolyline polyline, SafeRouteRequest request) {
+		if (!coverageCheckEnabled || polyline.pointCount() < 2) {
+			return false;
+		}
+
+		RouteCoverage coverage = safetyFacilityIndex.measureCoverage(polyline, coverageRadiusMeters,
+			request.preferredFacilityTypes());
+		double coveredRatio = coverage.combined().coveredRatio();
+		log.info("Original route coverage within {}m: {}%", coverageRadiusMeters, Math.round(coveredRatio * 100));
+		return coveredRatio >= coverageThreshold;
+	}
+
+	private void recordWaypointRouteDecision(String decision, LongAdder adder) {
+		adder.increment();
+		Counter.builder("safe.route.waypoint-route")
+			.description("Whether a waypoint route was requested after the coverage check")
+			.tag("decision", decision)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private double skipRatio() {
+		long skipped = waypointRoutesSkipped.sum();
+		long total = skipped + waypointRoutesRequested.sum();
+		return total == 0 ? 0.0 : (double)skipped / total;
+	}
+
+	// 경유지 경로 조회에 실패하면 오류 대신 경유지 없는 기본 경로로 응답
+	private SafeRouteResponse createDegradedResponse(KakaoWalkingDirectionsResponse originalRoute,
+		Throwable cause) {
+		log.warn("Failed to generate route with waypoints, falling back to original route: {}", cause.getMessage());
+		Counter.builder("kakao.resilience.fallback")
+			.description("Degraded responses served while Kakao is failing")
+			.tag("type", "original_route")
+			.register(meterRegistry)
+			.increment();
+		return new SafeRouteResponse(originalRoute, new ArrayList<>(), null, null, true, null, null, List.of(),
+			false);
+	}
+
+	// 모든 후보 경로가 추가 거리/시간 제한을 넘으면 경유지 없는 기본 경로(추가 거리 0)를 safeRoute로 응답
+	private SafeRouteResponse createOverBudgetResponse(KakaoWalkingDirectionsResponse originalRoute,
+		int candidateCount) {
+		log.info("None of {} candidate routes fit the detour budget, using the original route", candidateCount);
+		Counter.builder("safe.route.detour-budget.exceeded")
+			.description("Safe routes answered with the original route because no candidate fit the detour budget")
+			.register(meterRegistry)
+			.increment();
+		return new SafeRouteResponse(originalRoute, new ArrayList<>(), originalRoute,
+			createComparison(originalRoute, originalRoute, 0), false, null, null, List.of(), true);
+	}
+
+	private CompletableFuture<KakaoWalkingDirectionsResponse> getOriginalRoute(SafeRouteRequest request) {
 		// 경유지 없는 기본 경로를 waypoints API로 요청
 		WalkingWaypointsRequest waypointsRequest = WalkingWaypointsRequest.create(
 			request.originLongitude(), request.originLatitude(),
@@ -60,65 +377,86 @@ public class SafeRouteService {
 			null  // 경유지 없음
 		);
 
-		KakaoWalkingDirectionsResponse response = kakaoLocationService.getWalkingDirectionsWithWaypoints(
-			waypointsRequest);
+		return walkingRouteProvider.findRoute(waypointsRequest)
+			.thenApply(response -> {
+				// 디버깅용 로그 추가
+				if (response != null && response.routes() != null && !response.routes().isEmpty()) {
+					var route = response.routes().get(0);
+					log.info("Original route: distance={}, sections={}",
+						route.summary().distance(),
+						route.sections() != null ? route.sections().size() : "null");
+				}
+				return response;
+			});
+	}
 
-		// 디버깅용 로그 추가
-		if (response != null && response.routes() != null && !response.routes().isEmpty()) {
-			var route = response.routes().get(0);
-			log.info("Original route: distance={}, sections={}",
-				route.summary().distance(),
-				route.sections() != null ? route.sections().size() : "null");
+	private List<CorridorFacility> findNearbyFacilities(RoutePolyline polyline, SafeRouteRequest request) {
+		if (polyline.isEmpty()) {
+			return new ArrayList<>();
 		}
 
-		return response;
+		// 경로 전체를 하나의 폴리라인으로 보고 선호 타입의 주변 안전시설을 한 번에 조회 (정점별 조회 X)
+		// 선호 타입이 지정되지 않았다면 모든 시설 허용
+		RoutePolyline simplified = RoutePolyline.of(
+			PolylineSimplifier.simplify(polyline.coordinates(), SIMPLIFY_TOLERANCE_METERS));
+		recordVertexCount("original", polyline.pointCount());
+		recordVertexCount("simplified", simplified.pointCount());
+
+		double bufferMeters = SEARCH_RADIUS_METERS + SIMPLIFY_TOLERANCE_METERS;
+		List<CorridorFacility> allFacilities = safetyFacilityIndex.findCorridorFacilities(simplified, bufferMeters,
+			request.preferredFacilityTypes());
+
+		log.info("Found {} safety facilities within {}m of the simplified route matching preferred types",
+			allFacilities.size(), bufferMeters);
+		return allFacilities;
 	}
 
-	private List<SafetyFacility> findNearbyFacilities(KakaoWalkingDirectionsResponse route, SafeRouteRequest request) {
-		List<SafetyFacility> allFacilities = new ArrayList<>();
+	private void recordVertexCount(String stage, int count) {
+		DistributionSummary.builder("safe.route.vertices")
+			.description("Route vertex count before and after simplification")
+			.tag("stage", stage)
+			.register(meterRegistry)
+			.record(count);
+	}
 
-		if (route.routes() == null || route.routes().isEmpty()) {
-			return allFacilities;
+	// 모든 section/road의 vertexes를 [lng, lat, lng, lat, ...] 형태의 하나의 배열로 연결
+	private RoutePolyline extractRoutePolyline(KakaoWalkingDirectionsResponse route) {
+		if (route == null || route.routes() == null || route.routes().isEmpty()
+			|| route.routes().get(0).sections() == null) {
+			return RoutePolyline.of(new double[0]);
 		}
 
-		var firstRoute = route.routes().get(0);
-		if (firstRoute.sections() == null) {
-			return allFacilities;
+		int length = 0;
+		for (var section : route.routes().get(0).sections()) {
+			if (section.roads() != null) {
+				for (var road : section.roads()) {
+					if (road.vertexes() != null && road.vertexes().length >= 2) {
+						length += road.vertexes().length / 2 * 2;
+					}
+				}
+			}
 		}
 
-		// 경로의 모든 좌표점에서 주변 안전시설 검색
-		for (var section : firstRoute.sections()) {
+		double[] coordinates = new double[length];
+		int offset = 0;
+		for (var section : route.routes().get(0).sections()) {
 			if (section.roads() != null) {
 				for (var road : section.roads()) {
-					if (road.vertexes() != null && road.vertexes().size() >= 2) {
-						// vertexes는 [lng, lat, lng, lat, ...] 형태의 평면 배열
-						for (int i = 0; i < road.vertexes().size() - 1; i += 2) {
-							double longitude = road.vertexes().get(i);
-							double latitude = road.vertexes().get(i + 1);
-
-							List<SafetyFacility> facilities = safetyFacilityRepository
-								.findFacilitiesWithinRadius(latitude, longitude, SEARCH_RADIUS_METERS);
-
-							// 중복 제거를 위해 ID 기반으로 체크하고, 선호 시설 타입으로 필터링
-							for (SafetyFacility facility : facilities) {
-								if (allFacilities.stream().noneMatch(f -> f.getId().equals(facility.getId())) &&
-									isPreferredFacilityType(facility, request.preferredFacilityTypes())) {
-									allFacilities.add(facility);
-								}
-							}
-						}
+					if (road.vertexes() != null && road.vertexes().length >= 2) {
+						int count = road.vertexes().length / 2 * 2;
+						System.arraycopy(road.vertexes(), 0, coordinates, offset, count);
+						offset += count;
 					}
 				}
 			}
 		}
 
-		log.info("Found {} safety facilities within {}m of the route matching preferred types", allFacilities.size(),
-			SEARCH_RADIUS_METERS);
-		return allFacilities;
+		return RoutePolyline.of(coordinates);
 	}
 
-	private List<SafetyFacility> selectOptimalWaypoints(
-		KakaoWalkingDirectionsResponse route, List<SafetyFacility> facilities, SafeRouteRequest request
+	private List<FacilityPoint> selectOptimalWaypoints(
+		KakaoWalkingDirectionsResponse route, RoutePolyline polyline, List<FacilityPoint> facilities,
+		SafeRouteRequest request
 	) {
 		if (facilities.isEmpty() || route.routes().isEmpty()) {
 			return new ArrayList<>();
@@ -127,28 +465,25 @@ public class SafeRouteService {
 		int totalDistance = route.routes().get(0).summary().distance();
 		int optimalWaypointCount = calculateOptimalWaypointCount(totalDistance);
 
-		if (optimalWaypointCount == 0) {
+		if (optimalWaypointCount == 0 || polyline.isEmpty()) {
 			return new ArrayList<>();
 		}
 
 		// 경로를 구간으로 나누어 각 구간에서 가장 적절한 시설 선택
-		List<SafetyFacility> selectedWaypoints = new ArrayList<>();
-		List<Double[]> routeCoordinates = extractRouteCoordinates(route);
-
-		if (routeCoordinates.isEmpty()) {
-			return new ArrayList<>();
-		}
-
-		double totalRouteLength = calculateRouteLength(routeCoordinates);
-		double segmentLength = totalRouteLength / (optimalWaypointCount + 1);
+		List<FacilityPoint> selectedWaypoints = new ArrayList<>();
+		LongHashSet selectedIds = new LongHashSet(optimalWaypointCount);
+		double segmentLength = polyline.length() / (optimalWaypointCount + 1);
+		double[] targetPoint = new double[2];
+		// cos(위도)는 경로당 한 번만 계산
+		LocalPlane plane = LocalPlane.at(polyline.latitude(0));
 
 		for (int i = 1; i <= optimalWaypointCount; i++) {
 			double targetDistance = segmentLength * i;
-			Double[] targetPoint = getPointAtDistance(routeCoordinates, targetDistance);
 
-			if (targetPoint != null) {
-				SafetyFacility nearestFacility = findNearestFacility(facilities, targetPoint[1], targetPoint[0]);
-				if (nearestFacility != null && !selectedWaypoints.contains(nearestFacility)) {
+			if (polyline.pointAtDistance(targetDistance, targetPoint)) {
+				FacilityPoint nearestFacility = findNearestFacility(facilities, plane,
+					targetPoint[1], targetPoint[0]);
+				if (nearestFacility != null && selectedIds.add(nearestFacility.id())) {
 					selectedWaypoints.add(nearestFacility);
 				}
 			}
@@ -170,67 +505,18 @@ public class SafeRouteService {
 			return 8;       // 3km 미만: 3개
 		if (distanceMeters < 5000)
 			return 10;       // 5km 미만: 4개
-		return Math.min(MAX_WAYPOINTS, 15);         // 5km 이상: 최대 5개
+		// 5km 이상: 약 330m마다 1개, 15개를 넘으면 구간을 나눠 요청
+		return Math.min(MAX_TOTAL_WAYPOINTS, Math.max(MAX_WAYPOINTS, distanceMeters / METERS_PER_WAYPOINT));
 	}
 
-	private List<Double[]> extractRouteCoordinates(KakaoWalkingDirectionsResponse route) {
-		List<Double[]> coordinates = new ArrayList<>();
-
-		for (var section : route.routes().get(0).sections()) {
-			if (section.roads() != null) {
-				for (var road : section.roads()) {
-					if (road.vertexes() != null && road.vertexes().size() >= 2) {
-						for (int i = 0; i < road.vertexes().size() - 1; i += 2) {
-							coordinates.add(new Double[] {road.vertexes().get(i), road.vertexes().get(i + 1)});
-						}
-					}
-				}
-			}
-		}
-
-		return coordinates;
-	}
-
-	private double calculateRouteLength(List<Double[]> coordinates) {
-		double totalLength = 0.0;
-		for (int i = 1; i < coordinates.size(); i++) {
-			totalLength += calculateDistance(
-				coordinates.get(i - 1)[1], coordinates.get(i - 1)[0],
-				coordinates.get(i)[1], coordinates.get(i)[0]
-			);
-		}
-		return totalLength;
-	}
-
-	private Double[] getPointAtDistance(List<Double[]> coordinates, double targetDistance) {
-		double accumulatedDistance = 0.0;
-
-		for (int i = 1; i < coordinates.size(); i++) {
-			Double[] prev = coordinates.get(i - 1);
-			Double[] current = coordinates.get(i);
-
-			double segmentDistance = calculateDistance(prev[1], prev[0], current[1], current[0]);
-
-			if (accumulatedDistance + segmentDistance >= targetDistance) {
-				// 목표 지점이 이 구간에 있음
-				double ratio = (targetDistance - accumulatedDistance) / segmentDistance;
-				double lat = prev[1] + (current[1] - prev[1]) * ratio;
-				double lng = prev[0] + (current[0] - prev[0]) * ratio;
-				return new Double[] {lng, lat};
-			}
-
-			accumulatedDistance += segmentDistance;
-		}
-
-		return coordinates.isEmpty() ? null : coordinates.get(coordinates.size() - 1);
-	}
-
-	private SafetyFacility findNearestFacility(List<SafetyFacility> facilities, double latitude, double longitude) {
-		SafetyFacility nearest = null;
+	// 상대 비교만 필요하므로 평면 근사 거리의 제곱으로 비교
+	private FacilityPoint findNearestFacility(List<FacilityPoint> facilities, LocalPlane plane,
+		double latitude, double longitude) {
+		FacilityPoint nearest = null;
 		double minDistance = Double.MAX_VALUE;
 
-		for (SafetyFacility facility : facilities) {
-			double distance = calculateDistance(latitude, longitude, facility.getLatitude(), facility.getLongitude());
+		for (FacilityPoint facility : facilities) {
+			double distance = plane.distanceSquared(latitude, longitude, facility.latitude(), facility.longitude());
 			if (distance < minDistance) {
 				minDistance = distance;
 				nearest = facility;
@@ -240,41 +526,115 @@ public class SafeRouteService {
 		return nearest;
 	}
 
-	private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-		// Haversine formula
-		double R = 6371000; // 지구 반지름 (미터)
-		double dLat = Math.toRadians(lat2 - lat1);
-		double dLng = Math.toRadians(lng2 - lng1);
-		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-			Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-				Math.sin(dLng / 2) * Math.sin(dLng / 2);
-		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-		return R * c;
+	// 모든 후보가 고른 경유지를 DB에서 한 번에 조회
+	private Map<Long, SafetyFacility> loadFacilities(List<ScoredRoute> routes) {
+		List<Long> ids = routes.stream()
+			.flatMap(route -> route.candidate().waypoints().stream())
+			.map(FacilityPoint::id)
+			.distinct()
+			.toList();
+
+		return safetyFacilityRepository.findAllById(ids)
+			.stream()
+			.collect(Collectors.toMap(SafetyFacility::getId, Function.identity()));
 	}
 
-	private KakaoWalkingDirectionsResponse generateRouteWithWaypoints(
-		SafeRouteRequest request, List<SafetyFacility> waypoints
+	// 선택 순서를 유지
+	private List<SafetyFacility> toFacilities(List<FacilityPoint> points, Map<Long, SafetyFacility> facilitiesById) {
+		return points.stream()
+			.map(point -> facilitiesById.get(point.id()))
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	private CompletableFuture<KakaoWalkingDirectionsResponse> generateRouteWithWaypoints(
+		SafeRouteRequest request, List<FacilityPoint> waypoints
 	) {
 		if (waypoints.isEmpty()) {
-			return null;
+			return CompletableFuture.completedFuture(null);
 		}
 
-		// 경유지를 좌표 배열로 변환
-		List<WalkingWaypointsRequest.Coordinate> waypointCoords = new ArrayList<>();
-		for (int i = 0; i < Math.min(waypoints.size(), MAX_WAYPOINTS); i++) {
-			SafetyFacility facility = waypoints.get(i);
-			waypointCoords.add(new WalkingWaypointsRequest.Coordinate(
-				facility.getLongitude(), facility.getLatitude()
-			));
+		// 출발지, 경유지(경로 순서), 목적지를 하나의 좌표 목록으로
+		List<WalkingWaypointsRequest.Coordinate> points = new ArrayList<>(waypoints.size() + 2);
+		points.add(new WalkingWaypointsRequest.Coordinate(request.originLongitude(), request.originLatitude()));
+		for (FacilityPoint facility : waypoints) {
+			points.add(new WalkingWaypointsRequest.Coordinate(facility.longitude(), facility.latitude()));
+		}
+		points.add(new WalkingWaypointsRequest.Coordinate(
+			request.destinationLongitude(), request.destinationLatitude()));
+
+		// 경유지가 호출당 제한을 넘으면 연속된 구간으로 나누고, 구간 경계의 경유지를 앞 구간의 목적지이자 다음 구간의 출발지로 사용
+		int segmentCount = points.size() - 1;
+		int chunkCount = chunkCount(waypoints.size());
+		List<CompletableFuture<KakaoWalkingDirectionsResponse>> chunkRoutes = new ArrayList<>(chunkCount);
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			int start = (int)((long)segmentCount * chunk / chunkCount);
+			int end = (int)((long)segmentCount * (chunk + 1) / chunkCount);
+			chunkRoutes.add(requestChunkRoute(points, start, end));
 		}
 
+		if (chunkRoutes.size() == 1) {
+			return chunkRoutes.get(0);
+		}
+
+		// 구간 경로는 병렬로 요청하고 모두 도착하면 하나의 경로로 연결
+		log.info("Requesting {} waypoints in {} parallel chunks", waypoints.size(), chunkRoutes.size());
+		return CompletableFuture.allOf(chunkRoutes.toArray(CompletableFuture[]::new))
+			.thenApply(ignored -> stitchRoutes(chunkRoutes.stream().map(CompletableFuture::join).toList()));
+	}
+
+	// 경유지 수에 따른 카카오 호출(구간) 수, 구간마다 경유지는 최대 MAX_WAYPOINTS개
+	static int chunkCount(int waypointCount) {
+		int segmentCount = waypointCount + 1;
+		return (segmentCount + MAX_WAYPOINTS) / (MAX_WAYPOINTS + 1);
+	}
+
+	// points[start]에서 points[end]까지, 사이의 점들을 경유지로 하는 구간 경로
+	private CompletableFuture<KakaoWalkingDirectionsResponse> requestChunkRoute(
+		List<WalkingWaypointsRequest.Coordinate> points, int start, int end
+	) {
+		WalkingWaypointsRequest.Coordinate origin = points.get(start);
+		WalkingWaypointsRequest.Coordinate destination = points.get(end);
 		WalkingWaypointsRequest waypointsRequest = WalkingWaypointsRequest.create(
-			request.originLongitude(), request.originLatitude(),
-			request.destinationLongitude(), request.destinationLatitude(),
-			waypointCoords
+			origin.x(), origin.y(),
+			destination.x(), destination.y(),
+			new ArrayList<>(points.subList(start + 1, end))
 		);
 
-		return kakaoLocationService.getWalkingDirectionsWithWaypoints(waypointsRequest);
+		return walkingRouteProvider.findRoute(waypointsRequest);
+	}
+
+	// 구간 경로들을 순서대로 이어 하나의 응답으로 (요약은 합산, section은 이어 붙임)
+	// 응답 하나에는 trans_id가 하나뿐이므로 첫 구간의 trans_id를 쓰고, 나머지 구간의 trans_id는 카카오 문의용으로 로그에 남긴다.
+	private KakaoWalkingDirectionsResponse stitchRoutes(List<KakaoWalkingDirectionsResponse> chunkRoutes) {
+		int distance = 0;
+		int duration = 0;
+		List<KakaoWalkingDirectionsResponse.Section> sections = new ArrayList<>();
+
+		for (KakaoWalkingDirectionsResponse chunkRoute : chunkRoutes) {
+			if (chunkRoute == null || chunkRoute.routes() == null || chunkRoute.routes().isEmpty()
+				|| chunkRoute.routes().get(0).resultCode() != 0) {
+				// 한 구간이라도 경로가 없으면 전체 경로를 만들 수 없으므로 기본 경로로 대체되도록 실패 처리
+				throw new IllegalStateException("Failed to find a route for one of the route chunks");
+			}
+			var route = chunkRoute.routes().get(0);
+			distance += route.summary().distance();
+			duration += route.summary().duration();
+			if (route.sections() != null) {
+				sections.addAll(route.sections());
+			}
+		}
+
+		log.info("Stitched {} chunk routes, Kakao trans_ids {}", chunkRoutes.size(),
+			chunkRoutes.stream().map(KakaoWalkingDirectionsResponse::transId).toList());
+		var first = chunkRoutes.get(0);
+		var firstRoute = first.routes().get(0);
+		return new KakaoWalkingDirectionsResponse(first.transId(), List.of(new KakaoWalkingDirectionsResponse.Route(
+			firstRoute.resultCode(),
+			firstRoute.resultMessage(),
+			new KakaoWalkingDirectionsResponse.Summary(distance, duration),
+			sections
+		)));
 	}
 
 	private SafeRouteResponse createSafeRouteResponse(
@@ -282,35 +642,77 @@ public class SafeRouteService {
 		List<SafetyFacility> selectedWaypoints,
 		KakaoWalkingDirectionsResponse safeRoute
 	) {
-		List<SafetyFacilityResponse> waypointResponses = selectedWaypoints.stream()
+		return new SafeRouteResponse(originalRoute, toResponses(selectedWaypoints), safeRoute,
+			createComparison(originalRoute, safeRoute, selectedWaypoints.size()), false, null, null, List.of(), false);
+	}
+
+	// ranked는 추가 거리 제한 안의 후보만 점수 내림차순, 첫 번째가 safeRoute가 되고 나머지는 alternatives
+	private SafeRouteResponse createRankedResponse(KakaoWalkingDirectionsResponse originalRoute,
+		List<ScoredRoute> ranked) {
+		Map<Long, SafetyFacility> facilitiesById = loadFacilities(ranked);
+
+		List<SafeRouteResponse.RouteAlternative> alternatives = ranked.stream()
+			.skip(1)
+			.map(alternative -> {
+				List<SafetyFacility> waypoints = toFacilities(alternative.candidate().waypoints(), facilitiesById);
+				return new SafeRouteResponse.RouteAlternative(
+					alternative.candidate().strategy(),
+					toPercent(alternative.coveredRatio()),
+					alternative.score(),
+					toResponses(waypoints),
+					alternative.route(),
+					createComparison(originalRoute, alternative.route(), waypoints.size())
+				);
+			})
+			.toList();
+
+		ScoredRoute best = ranked.get(0);
+		List<SafetyFacility> waypoints = toFacilities(best.candidate().waypoints(), facilitiesById);
+		log.info("Selected {} route with {}% coverage from {} candidates", best.candidate().strategy(),
+			toPercent(best.coveredRatio()), ranked.size());
+		return new SafeRouteResponse(originalRoute, toResponses(waypoints), best.route(),
+			createComparison(originalRoute, best.route(), waypoints.size()), false,
+			best.candidate().strategy(), toPercent(best.coveredRatio()), alternatives, false);
+	}
+
+	private List<SafetyFacilityResponse> toResponses(List<SafetyFacility> facilities) {
+		return facilities.stream()
 			.map(SafetyFacilityResponse::from)
 			.toList();
+	}
 
-		SafeRouteResponse.RouteComparison comparison = null;
-		if (safeRoute != null && !safeRoute.routes().isEmpty() && !originalRoute.routes().isEmpty()) {
-			var originalSummary = originalRoute.routes().get(0).summary();
-			var safeSummary = safeRoute.routes().get(0).summary();
-
-			comparison = new SafeRouteResponse.RouteComparison(
-				originalSummary.distance(),
-				safeSummary.distance(),
-				originalSummary.duration(),
-				safeSummary.duration(),
-				safeSummary.distance() - originalSummary.distance(),
-				safeSummary.duration() - originalSummary.duration(),
-				selectedWaypoints.size()
-			);
+	private SafeRouteResponse.RouteComparison createComparison(KakaoWalkingDirectionsResponse originalRoute,
+		KakaoWalkingDirectionsResponse safeRoute, int waypointCount) {
+		if (safeRoute == null || safeRoute.routes().isEmpty() || originalRoute.routes().isEmpty()) {
+			return null;
 		}
 
-		return new SafeRouteResponse(originalRoute, waypointResponses, safeRoute, comparison);
+		var originalSummary = originalRoute.routes().get(0).summary();
+		var safeSummary = safeRoute.routes().get(0).summary();
+		return new SafeRouteResponse.RouteComparison(
+			originalSummary.distance(),
+			safeSummary.distance(),
+			originalSummary.duration(),
+			safeSummary.duration(),
+			safeSummary.distance() - originalSummary.distance(),
+			safeSummary.duration() - originalSummary.duration(),
+			waypointCount
+		);
 	}
 
-	private boolean isPreferredFacilityType(SafetyFacility facility, List<SafetyFacilityType> preferredTypes) {
-		// 선호 타입이 지정되지 않았다면 모든 시설 허용
-		if (preferredTypes == null || preferredTypes.isEmpty()) {
-			return true;
+	// 소수점 첫째 자리까지
+	private double toPercent(double ratio) {
+		return Math.round(ratio * 1000) / 10.0;
+	}
+
+	private record WaypointCandidate(WaypointStrategy strategy, List<FacilityPoint> waypoints) {
+
+		int calls() {
+			return chunkCount(waypoints.size());
 		}
-		// 시설이 선호 타입 목록에 포함되는지 확인
-		return preferredTypes.contains(facility.getType());
+	}
+
+	private record ScoredRoute(WaypointCandidate candidate, KakaoWalkingDirectionsResponse route,
+		double coveredRatio, double score, boolean withinBudget) {
 	}
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.redstonetorch.dongbaekro.location.service;
 
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
 import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
+import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
 import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilitySpatialSchema;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class SafetyFacilityService {
 
 	private final SafetyFacilityRepository safetyFacilityRepository;
+	private final SafetyFacilitySpatialSchema safetyFacilitySpatialSchema;
 
 	public List<SafetyFacilityResponse> findByCode(String code) {
 		return safetyFacilityRepository.findByCode(code)
@@ -31,4 +36,46 @@ public class SafetyFacilityService {
 			.map(SafetyFacilityResponse::from)
 			.toList();
 	}
-}
\ No newline at end of file
+
+	// types가 비어 있으면 모든 타입을 조회
+	public List<SafetyFacilityResponse> findWithinRadius(double latitude, double longitude, double radiusMeters,
+		List<SafetyFacilityType> types) {
+		double latitudeDelta = GeoDistance.metersToLatitudeDegrees(radiusMeters);
+		double longitudeDelta = GeoDistance.metersToLongitudeDegrees(radiusMeters, latitude);
+		double minLat = latitude - latitudeDelta;
+		double maxLat = latitude + latitudeDelta;
+		double minLng = longitude - longitudeDelta;
+		double maxLng = longitude + longitudeDelta;
+		boolean filterByType = types != null && !types.isEmpty();
+		List<SafetyFacility> facilities;
+
+		if (safetyFacilitySpatialSchema.isAvailable()) {
+			String envelope = createEnvelope(minLat, minLng, maxLat, maxLng);
+			if (filterByType) {
+				List<String> typeNames = types.stream().map(SafetyFacilityType::name).toList();
+				facilities = safetyFacilityRepository.findFacilitiesWithinRadiusSpatialAndTypes(
+					envelope, latitude, longitude, radiusMeters, typeNames);
+			} else {
+				facilities = safetyFacilityRepository.findFacilitiesWithinRadiusSpatial(
+					envelope, latitude, longitude, radiusMeters);
+			}
+		} else if (filterByType) {
+			// H2 등 공간 인덱스가 없는 환경에서는 위경도 범위 + JPQL 거리 검색 사용
+			facilities = safetyFacilityRepository.findFacilitiesWithinRadiusAndTypes(
+				latitude, longitude, radiusMeters, minLat, maxLat, minLng, maxLng, types);
+		} else {
+			facilities = safetyFacilityRepository.findFacilitiesWithinRadius(
+				latitude, longitude, radiusMeters, minLat, maxLat, minLng, maxLng);
+		}
+
+		return facilities.stream()
+			.map(SafetyFacilityResponse::from)
+			.toList();
+	}
+
+	// 사각형 POLYGON WKT (SRID 4326 축 순서: 위도 경도)
+	private String createEnvelope(double minLat, double minLng, double maxLat, double maxLng) {
+		return String.format(Locale.ROOT, "POLYGON((%.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f))",
+			minLat, minLng, maxLat, minLng, maxLat, maxLng, minLat, maxLng, minLat, minLng);
+	}
+}
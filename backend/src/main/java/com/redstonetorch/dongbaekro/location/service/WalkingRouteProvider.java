@@ -0,0 +1,13 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+
+// 안전 경로 계산에 쓰는 도보 경로 탐색 (safe-route.provider: kakao | local)
+// 구현과 무관하게 카카오 길찾기 응답 형태로 반환하고, 경로를 찾지 못하면 result_code가 0이 아닌 경로를 반환한다.
+public interface WalkingRouteProvider {
+
+	CompletableFuture<KakaoWalkingDirectionsResponse> findRoute(WalkingWaypointsRequest request);
+}
@@ -0,0 +1,97 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.enums.WaypointStrategy;
+import com.redstonetorch.dongbaekro.location.spatial.CorridorFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+
+// 경로 통로 안의 시설(경로상 위치 순으로 정렬됨)에서 전략별 경유지 후보를 고른다.
+// 경로를 count개 구간으로 나누고 구간마다 전략 점수가 가장 높은 시설 하나를 고르므로 결과는 항상 경로 순서이다.
+// (EVEN_SPACING은 SafeRouteService.selectOptimalWaypoints에서 처리)
+final class WaypointSelector {
+
+	// TYPE_WEIGHTED: 경로에서 이 거리만큼 떨어지면 가중치가 절반
+	private static final double OFFSET_HALF_WEIGHT_METERS = 25.0;
+	// DENSITY: 경로상 앞뒤 이 거리 안의 시설 수를 밀집도로 사용
+	private static final double DENSITY_WINDOW_METERS = 50.0;
+
+	private WaypointSelector() {
+	}
+
+	static List<FacilityPoint> select(WaypointStrategy strategy, List<CorridorFacility> facilities,
+		double routeLength, int count) {
+		if (facilities.isEmpty() || count <= 0 || routeLength <= 0) {
+			return new ArrayList<>();
+		}
+
+		double[] scores = score(strategy, facilities);
+		int[] best = new int[count];
+		Arrays.fill(best, -1);
+		for (int i = 0; i < facilities.size(); i++) {
+			int bin = (int)Math.min(count - 1, Math.max(0, facilities.get(i).distanceAlong() / routeLength * count));
+			if (best[bin] < 0 || scores[i] > scores[best[bin]]) {
+				best[bin] = i;
+			}
+		}
+
+		List<FacilityPoint> selected = new ArrayList<>(count);
+		for (int index : best) {
+			if (index >= 0) {
+				selected.add(facilities.get(index).point());
+			}
+		}
+		return selected;
+	}
+
+	private static double[] score(WaypointStrategy strategy, List<CorridorFacility> facilities) {
+		double[] scores = new double[facilities.size()];
+		switch (strategy) {
+			case TYPE_WEIGHTED -> {
+				for (int i = 0; i < scores.length; i++) {
+					CorridorFacility facility = facilities.get(i);
+					scores[i] = typeWeight(facility.point().type())
+						/ (1 + facility.offset() / OFFSET_HALF_WEIGHT_METERS);
+				}
+			}
+			case DENSITY -> {
+				// 경로상 위치 순으로 정렬되어 있으므로 두 포인터로 앞뒤 구간의 시설 수를 센다.
+				int low = 0;
+				int high = 0;
+				for (int i = 0; i < scores.length; i++) {
+					double position = facilities.get(i).distanceAlong();
+					while (facilities.get(low).distanceAlong() < position - DENSITY_WINDOW_METERS) {
+						low++;
+					}
+					while (high < scores.length
+						&& facilities.get(high).distanceAlong() <= position + DENSITY_WINDOW_METERS) {
+						high++;
+					}
+					// 밀집도가 같으면 경로에 가까운 시설
+					scores[i] = (high - low) - facilities.get(i).offset() / 1000.0;
+				}
+			}
+			case MIN_DETOUR -> {
+				for (int i = 0; i < scores.length; i++) {
+					scores[i] = -facilities.get(i).offset();
+				}
+			}
+			default -> throw new IllegalArgumentException("Unsupported waypoint strategy: " + strategy);
+		}
+		return scores;
+	}
+
+	// 위급 상황에서 도움을 받을 수 있는 정도
+	private static double typeWeight(SafetyFacilityType type) {
+		return switch (type) {
+			case POLICE_SUBSTATION -> 5.0;
+			case EMERGENCY_BELL -> 4.0;
+			case CCTV -> 3.0;
+			case STREETLAMP, SAFE_DELIVERY_BOX -> 2.0;
+			case INFORMATION_BOARD -> 1.0;
+		};
+	}
+}
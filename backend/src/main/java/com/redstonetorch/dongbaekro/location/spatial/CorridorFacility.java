@@ -0,0 +1,6 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+// 경로 통로 안의 안전시설
+// distanceAlong: 경로 시작점부터 시설이 투영되는 지점까지의 경로 길이, offset: 경로에서 시설까지의 거리 (미터)
+public record CorridorFacility(FacilityPoint point, double distanceAlong, double offset) {
+}
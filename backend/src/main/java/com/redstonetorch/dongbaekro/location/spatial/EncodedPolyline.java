@@ -0,0 +1,50 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import java.util.Arrays;
+
+// Google encoded polyline 디코더 (precision 5, OSRM/Valhalla의 polyline6은 precision 6)
+// 결과는 RoutePolyline과 같은 [lng, lat, lng, lat, ...] 배열이다.
+public final class EncodedPolyline {
+
+	private EncodedPolyline() {
+	}
+
+	public static double[] decode(String encoded, int precision) {
+		double factor = Math.pow(10, precision);
+		int length = encoded.length();
+		// 좌표 하나는 최소 1글자이므로 글자 수가 좌표 개수의 상한
+		double[] coordinates = new double[length * 2];
+		int count = 0;
+		int index = 0;
+		long latitude = 0;
+		long longitude = 0;
+
+		long[] delta = new long[2];
+		while (index < length) {
+			for (int axis = 0; axis < 2; axis++) {
+				long result = 0;
+				int shift = 0;
+				int chunk;
+				do {
+					if (index >= length || shift > 60) {
+						throw new IllegalArgumentException("Malformed encoded polyline");
+					}
+					chunk = encoded.charAt(index++) - 63;
+					if (chunk < 0 || chunk > 63) {
+						throw new IllegalArgumentException("Malformed encoded polyline");
+					}
+					result |= (long)(chunk & 0x1f) << shift;
+					shift += 5;
+				} while (chunk >= 0x20);
+				delta[axis] = (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+			}
+			latitude += delta[0];
+			longitude += delta[1];
+			coordinates[count * 2] = longitude / factor;
+			coordinates[count * 2 + 1] = latitude / factor;
+			count++;
+		}
+
+		return Arrays.copyOf(coordinates, count * 2);
+	}
+}
@@ -0,0 +1,11 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+
+public record FacilityPoint(
+	long id,
+	SafetyFacilityType type,
+	double latitude,
+	double longitude
+) {
+}
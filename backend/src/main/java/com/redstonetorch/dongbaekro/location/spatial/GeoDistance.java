@@ -0,0 +1,30 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+public final class GeoDistance {
+
+	public static final double EARTH_RADIUS_METERS = 6371000; // 지구 반지름 (미터)
+	private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+	private GeoDistance() {
+	}
+
+	public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+			Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+				Math.sin(dLng / 2) * Math.sin(dLng / 2);
+		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+		return EARTH_RADIUS_METERS * c;
+	}
+
+	public static double metersToLatitudeDegrees(double meters) {
+		return meters / METERS_PER_DEGREE;
+	}
+
+	public static double metersToLongitudeDegrees(double meters, double latitude) {
+		// 극지방에서 0으로 나누지 않도록 cos 값을 하한으로 제한
+		double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+		return meters / (METERS_PER_DEGREE * cosLatitude);
+	}
+}
@@ -0,0 +1,45 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+// 기준 위도에서 지구 표면을 평면으로 근사한 등장방형(equirectangular) 거리 계산
+// cos(기준 위도)를 한 번만 계산해 두므로 거리 한 번에 곱셈과 덧셈만 쓰고, 대소 비교에는 distanceSquared로 제곱근도 생략한다.
+// 오차: 두 점이 기준 위도에서 10km 이내이고 위도 60도 이하이면 haversine 대비 상대 오차 0.3% 이하 (국내 위도 33~39도는 0.15% 이하)
+// 오차는 경도 축척을 기준 위도의 cos 값으로 고정한 데서 오며 기준점에서 멀어질수록 커진다. 경로 길이처럼 정확한 값은 GeoDistance.haversine을 쓴다.
+public final class LocalPlane {
+
+	private static final double METERS_PER_DEGREE = Math.PI * GeoDistance.EARTH_RADIUS_METERS / 180;
+
+	private final double metersPerDegreeLongitude;
+
+	private LocalPlane(double referenceLatitude) {
+		this.metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(referenceLatitude));
+	}
+
+	public static LocalPlane at(double referenceLatitude) {
+		return new LocalPlane(referenceLatitude);
+	}
+
+	public double distanceSquared(double lat1, double lng1, double lat2, double lng2) {
+		double dx = (lng2 - lng1) * metersPerDegreeLongitude;
+		double dy = (lat2 - lat1) * METERS_PER_DEGREE;
+		return dx * dx + dy * dy;
+	}
+
+	public double distance(double lat1, double lng1, double lat2, double lng2) {
+		return Math.sqrt(distanceSquared(lat1, lng1, lat2, lng2));
+	}
+
+	// 선분(start, end) 위에서 point에 가장 가까운 점의 비율(0~1)
+	public double projectionRatio(double lat, double lng,
+		double startLat, double startLng, double endLat, double endLng) {
+		double segmentX = (endLng - startLng) * metersPerDegreeLongitude;
+		double segmentY = (endLat - startLat) * METERS_PER_DEGREE;
+		double lengthSquared = segmentX * segmentX + segmentY * segmentY;
+		if (lengthSquared == 0) {
+			return 0.0;
+		}
+		double pointX = (lng - startLng) * metersPerDegreeLongitude;
+		double pointY = (lat - startLat) * METERS_PER_DEGREE;
+		double ratio = (pointX * segmentX + pointY * segmentY) / lengthSquared;
+		return Math.max(0.0, Math.min(1.0, ratio));
+	}
+}
@@ -0,0 +1,88 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Douglas-Peucker 폴리라인 단순화
+// 단순화된 경로의 모든 점은 원래 경로에서 tolerance 이내에 있으므로,
+// 원래 경로 기준 반경 R의 통로는 단순화된 경로 기준 반경 R + tolerance의 통로에 항상 포함된다.
+public final class PolylineSimplifier {
+
+	private PolylineSimplifier() {
+	}
+
+	// coordinates: [lng, lat, lng, lat, ...], 줄일 점이 없으면 입력 배열을 그대로 반환
+	public static double[] simplify(double[] coordinates, double toleranceMeters) {
+		int pointCount = coordinates.length / 2;
+		if (pointCount <= 2 || toleranceMeters <= 0) {
+			return coordinates;
+		}
+
+		// 경로 길이(수 km) 범위에서는 첫 점 위도 기준 평면 근사로 충분
+		LocalPlane plane = LocalPlane.at(coordinates[1]);
+		double toleranceSquared = toleranceMeters * toleranceMeters;
+
+		boolean[] keep = new boolean[pointCount];
+		keep[0] = true;
+		keep[pointCount - 1] = true;
+
+		Deque<int[]> ranges = new ArrayDeque<>();
+		ranges.push(new int[] {0, pointCount - 1});
+		while (!ranges.isEmpty()) {
+			int[] range = ranges.pop();
+			int first = range[0];
+			int last = range[1];
+
+			int farthest = -1;
+			double maxDistanceSquared = toleranceSquared;
+			for (int i = first + 1; i < last; i++) {
+				double distanceSquared = segmentDistanceSquared(plane, coordinates, i, first, last);
+				if (distanceSquared > maxDistanceSquared) {
+					maxDistanceSquared = distanceSquared;
+					farthest = i;
+				}
+			}
+
+			if (farthest >= 0) {
+				keep[farthest] = true;
+				ranges.push(new int[] {first, farthest});
+				ranges.push(new int[] {farthest, last});
+			}
+		}
+
+		int keptCount = 0;
+		for (boolean kept : keep) {
+			if (kept) {
+				keptCount++;
+			}
+		}
+		if (keptCount == pointCount) {
+			return coordinates;
+		}
+
+		double[] simplified = new double[keptCount * 2];
+		int offset = 0;
+		for (int i = 0; i < pointCount; i++) {
+			if (keep[i]) {
+				simplified[offset++] = coordinates[i * 2];
+				simplified[offset++] = coordinates[i * 2 + 1];
+			}
+		}
+		return simplified;
+	}
+
+	// point에서 선분(start, end)까지의 거리 제곱 (미터)
+	private static double segmentDistanceSquared(LocalPlane plane, double[] coordinates, int point, int start,
+		int end) {
+		double lat = coordinates[point * 2 + 1];
+		double lng = coordinates[point * 2];
+		double startLat = coordinates[start * 2 + 1];
+		double startLng = coordinates[start * 2];
+		double endLat = coordinates[end * 2 + 1];
+		double endLng = coordinates[end * 2];
+
+		double ratio = plane.projectionRatio(lat, lng, startLat, startLng, endLat, endLng);
+		return plane.distanceSquared(lat, lng,
+			startLat + (endLat - startLat) * ratio, startLng + (endLng - startLng) * ratio);
+	}
+}
@@ -0,0 +1,97 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.util.LongHashSet;
+
+// 경로가 안전시설 반경 안을 지나는 정도
+// 시설마다 "경로 위에서 반경 안에 드는 누적 거리 구간"을 구해 두고, 시작점 순으로 한 번 훑으면서
+// 타입별 덮인 길이, 가장 긴 공백 구간, 시설 수를 함께 계산한다.
+// combined는 지정한 타입들 중 어느 것이든 반경 안에 있는 구간의 합집합이다.
+public final class RouteCoverage {
+
+	private static final SafetyFacilityType[] TYPES = SafetyFacilityType.values();
+
+	private final double routeLength;
+	private final Lane[] lanes;
+	private final Lane combined;
+
+	private RouteCoverage(double routeLength, Lane[] lanes, Lane combined) {
+		this.routeLength = routeLength;
+		this.lanes = lanes;
+		this.combined = combined;
+	}
+
+	public double routeLength() {
+		return routeLength;
+	}
+
+	public Lane forType(SafetyFacilityType type) {
+		return lanes[type.ordinal()];
+	}
+
+	public Lane combined() {
+		return combined;
+	}
+
+	// coveredMeters: 반경 안에 드는 경로 길이, longestGapMeters: 반경 밖으로 이어지는 가장 긴 구간
+	public record Lane(double coveredMeters, double coveredRatio, double longestGapMeters, int facilityCount) {
+	}
+
+	// 경로 누적 거리 [start, end] 구간이 facilityId 시설의 반경 안에 있음
+	record Interval(double start, double end, int type, long facilityId) {
+	}
+
+	// combinedMask가 null이면 모든 타입을 combined에 포함
+	static RouteCoverage sweep(double routeLength, List<Interval> intervals, boolean[] combinedMask) {
+		intervals.sort(Comparator.comparingDouble(Interval::start));
+
+		int laneCount = TYPES.length + 1;
+		int combinedLane = TYPES.length;
+		double[] reach = new double[laneCount];
+		double[] covered = new double[laneCount];
+		double[] longestGap = new double[laneCount];
+		LongHashSet[] facilities = new LongHashSet[laneCount];
+		for (int lane = 0; lane < laneCount; lane++) {
+			facilities[lane] = new LongHashSet();
+		}
+
+		for (Interval interval : intervals) {
+			extend(interval, interval.type(), reach, covered, longestGap, facilities);
+			if (combinedMask == null || combinedMask[interval.type()]) {
+				extend(interval, combinedLane, reach, covered, longestGap, facilities);
+			}
+		}
+
+		Lane[] lanes = new Lane[TYPES.length];
+		for (int lane = 0; lane < TYPES.length; lane++) {
+			lanes[lane] = toLane(routeLength, reach[lane], covered[lane], longestGap[lane], facilities[lane]);
+		}
+		Lane combined = toLane(routeLength, reach[combinedLane], covered[combinedLane], longestGap[combinedLane],
+			facilities[combinedLane]);
+		return new RouteCoverage(routeLength, lanes, combined);
+	}
+
+	private static void extend(Interval interval, int lane, double[] reach, double[] covered, double[] longestGap,
+		LongHashSet[] facilities) {
+		facilities[lane].add(interval.facilityId());
+		if (interval.start() > reach[lane]) {
+			longestGap[lane] = Math.max(longestGap[lane], interval.start() - reach[lane]);
+			covered[lane] += interval.end() - interval.start();
+			reach[lane] = interval.end();
+		} else if (interval.end() > reach[lane]) {
+			covered[lane] += interval.end() - reach[lane];
+			reach[lane] = interval.end();
+		}
+	}
+
+	private static Lane toLane(double routeLength, double reach, double covered, double longestGap,
+		LongHashSet facilities) {
+		// 마지막 덮인 지점부터 도착지까지도 공백 구간
+		double gap = Math.max(longestGap, routeLength - reach);
+		double ratio = routeLength > 0 ? Math.min(1.0, covered / routeLength) : 0.0;
+		return new Lane(covered, ratio, Math.max(0.0, gap), facilities.size());
+	}
+}
@@ -0,0 +1,90 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+// 하나의 double[]에 [lng, lat, lng, lat, ...]를 담는 경로 폴리라인
+// 정점별 누적 거리(미터)를 생성 시 한 번만 계산해 두고, 이후 조회는 추가 할당 없이 수행한다.
+public final class RoutePolyline {
+
+	private final double[] coordinates;
+	private final double[] cumulativeDistances;
+
+	private RoutePolyline(double[] coordinates) {
+		this.coordinates = coordinates;
+		this.cumulativeDistances = new double[coordinates.length / 2];
+		for (int i = 1; i < cumulativeDistances.length; i++) {
+			cumulativeDistances[i] = cumulativeDistances[i - 1] + GeoDistance.haversine(
+				latitude(i - 1), longitude(i - 1), latitude(i), longitude(i));
+		}
+	}
+
+	// coordinates 배열은 복사하지 않으므로 호출 측에서 이후에 수정하지 않아야 한다.
+	public static RoutePolyline of(double[] coordinates) {
+		return new RoutePolyline(coordinates);
+	}
+
+	public int pointCount() {
+		return cumulativeDistances.length;
+	}
+
+	public boolean isEmpty() {
+		return cumulativeDistances.length == 0;
+	}
+
+	public double longitude(int index) {
+		return coordinates[index * 2];
+	}
+
+	public double latitude(int index) {
+		return coordinates[index * 2 + 1];
+	}
+
+	public double[] coordinates() {
+		return coordinates;
+	}
+
+	// 시작점부터 index번째 정점까지의 경로 길이
+	public double cumulativeDistance(int index) {
+		return cumulativeDistances[index];
+	}
+
+	public double length() {
+		return isEmpty() ? 0.0 : cumulativeDistances[cumulativeDistances.length - 1];
+	}
+
+	// 시작점부터 distance 지점의 좌표를 out에 [lng, lat]로 기록, 빈 경로면 false
+	// 누적 거리 배열에서 이분 탐색하므로 O(log n)
+	public boolean pointAtDistance(double distance, double[] out) {
+		if (isEmpty()) {
+			return false;
+		}
+
+		int last = pointCount() - 1;
+		if (last == 0 || distance >= cumulativeDistances[last]) {
+			out[0] = longitude(last);
+			out[1] = latitude(last);
+			return true;
+		}
+
+		// 목표 지점이 있는 구간 [i - 1, i]
+		int i = segmentEndIndex(distance);
+		double segmentDistance = cumulativeDistances[i] - cumulativeDistances[i - 1];
+		double ratio = segmentDistance == 0 ? 0 : (distance - cumulativeDistances[i - 1]) / segmentDistance;
+		out[0] = longitude(i - 1) + (longitude(i) - longitude(i - 1)) * ratio;
+		out[1] = latitude(i - 1) + (latitude(i) - latitude(i - 1)) * ratio;
+		return true;
+	}
+
+	// cumulativeDistances[i] >= distance 를 만족하는 가장 작은 i (1 이상)
+	private int segmentEndIndex(double distance) {
+		int low = 1;
+		int high = pointCount() - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumulativeDistances[mid] >= distance) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,240 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.util.LongHashSet;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 전체 안전시설 좌표를 메모리에 올려 둔 공간 인덱스
+// 경로 탐색 중에는 DB를 조회하지 않고 이 인덱스만 사용한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SafetyFacilityIndex {
+
+	private final SafetyFacilityRepository safetyFacilityRepository;
+
+	private volatile StrTree tree = StrTree.EMPTY;
+
+	// 로컬 보행 그래프의 안전 비용 계산(LocalWalkingRouteProvider)보다 먼저 적재
+	@Order(0)
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long startedAt = System.nanoTime();
+		try {
+			List<FacilityPoint> points = safetyFacilityRepository.findAllFacilityPoints();
+			tree = StrTree.build(points);
+			log.info("Safety facility index built: {} facilities in {}ms",
+				points.size(), (System.nanoTime() - startedAt) / 1_000_000);
+		} catch (RuntimeException e) {
+			// 인덱스 적재에 실패해도 애플리케이션은 기동하고, 기존 인덱스를 유지한다.
+			log.error("Failed to build safety facility index: {}", e.getMessage(), e);
+		}
+	}
+
+	public int size() {
+		return tree.size();
+	}
+
+	// types가 null이거나 비어 있으면 모든 타입을 조회한다. (이하 동일)
+	public List<FacilityPoint> findWithinBounds(double minLatitude, double minLongitude,
+		double maxLatitude, double maxLongitude, Collection<SafetyFacilityType> types) {
+		StrTree current = tree;
+		boolean[] typeMask = typeMask(types);
+		List<FacilityPoint> result = new ArrayList<>();
+		current.search(minLatitude, minLongitude, maxLatitude, maxLongitude,
+			slot -> {
+				if (matchesType(current, slot, typeMask)) {
+					result.add(current.point(slot));
+				}
+			});
+		return result;
+	}
+
+	// 반경 내 시설을 가까운 순으로 반환
+	public List<FacilityPoint> findWithinRadius(double latitude, double longitude, double radiusMeters,
+		Collection<SafetyFacilityType> types) {
+		StrTree current = tree;
+		boolean[] typeMask = typeMask(types);
+		LocalPlane plane = LocalPlane.at(latitude);
+		double radiusSquared = radiusMeters * radiusMeters;
+		double latitudeDelta = GeoDistance.metersToLatitudeDegrees(radiusMeters);
+		double longitudeDelta = GeoDistance.metersToLongitudeDegrees(radiusMeters, latitude);
+
+		List<Candidate> candidates = new ArrayList<>();
+		current.search(latitude - latitudeDelta, longitude - longitudeDelta,
+			latitude + latitudeDelta, longitude + longitudeDelta,
+			slot -> {
+				if (!matchesType(current, slot, typeMask)) {
+					return;
+				}
+				double distanceSquared = plane.distanceSquared(latitude, longitude,
+					current.latitude(slot), current.longitude(slot));
+				if (distanceSquared <= radiusSquared) {
+					candidates.add(new Candidate(current.point(slot), distanceSquared));
+				}
+			});
+
+		candidates.sort(Comparator.comparingDouble(Candidate::sortKey));
+		return candidates.stream()
+			.map(Candidate::point)
+			.toList();
+	}
+
+	// 경로 폴리라인에서 buffer 이내의 시설을 한 번의 순회로 조회
+	// 결과는 ID 기준으로 중복 제거되며, 경로 시작점부터 처음 도달하는 호 길이 순으로 정렬된다.
+	public List<FacilityPoint> findWithinCorridor(RoutePolyline polyline, double bufferMeters,
+		Collection<SafetyFacilityType> types) {
+		return findCorridorFacilities(polyline, bufferMeters, types).stream()
+			.map(CorridorFacility::point)
+			.toList();
+	}
+
+	// findWithinCorridor와 같지만 시설마다 경로상 위치와 경로까지의 거리를 함께 반환
+	public List<CorridorFacility> findCorridorFacilities(RoutePolyline polyline, double bufferMeters,
+		Collection<SafetyFacilityType> types) {
+		if (polyline.isEmpty()) {
+			return new ArrayList<>();
+		}
+		if (polyline.pointCount() == 1) {
+			LocalPlane plane = LocalPlane.at(polyline.latitude(0));
+			return findWithinRadius(polyline.latitude(0), polyline.longitude(0), bufferMeters, types).stream()
+				.map(point -> new CorridorFacility(point, 0.0, plane.distance(
+					polyline.latitude(0), polyline.longitude(0), point.latitude(), point.longitude())))
+				.toList();
+		}
+
+		StrTree current = tree;
+		boolean[] typeMask = typeMask(types);
+		LongHashSet seen = new LongHashSet();
+		List<CorridorFacility> candidates = new ArrayList<>();
+		// 도보 경로 규모에서는 경로 시작점 기준 평면 근사의 오차가 무시할 만하다. (LocalPlane 참고)
+		LocalPlane plane = LocalPlane.at(polyline.latitude(0));
+		double bufferSquared = bufferMeters * bufferMeters;
+		double latitudeDelta = GeoDistance.metersToLatitudeDegrees(bufferMeters);
+
+		for (int i = 1; i < polyline.pointCount(); i++) {
+			double startLng = polyline.longitude(i - 1);
+			double startLat = polyline.latitude(i - 1);
+			double endLng = polyline.longitude(i);
+			double endLat = polyline.latitude(i);
+			double segmentStart = polyline.cumulativeDistance(i - 1);
+			double segmentLength = polyline.cumulativeDistance(i) - segmentStart;
+			double longitudeDelta = GeoDistance.metersToLongitudeDegrees(bufferMeters,
+				Math.max(Math.abs(startLat), Math.abs(endLat)));
+
+			current.search(
+				Math.min(startLat, endLat) - latitudeDelta, Math.min(startLng, endLng) - longitudeDelta,
+				Math.max(startLat, endLat) + latitudeDelta, Math.max(startLng, endLng) + longitudeDelta,
+				slot -> {
+					if (!matchesType(current, slot, typeMask) || seen.contains(current.id(slot))) {
+						return;
+					}
+					double lat = current.latitude(slot);
+					double lng = current.longitude(slot);
+					double ratio = plane.projectionRatio(lat, lng, startLat, startLng, endLat, endLng);
+					double distanceSquared = plane.distanceSquared(lat, lng,
+						startLat + (endLat - startLat) * ratio, startLng + (endLng - startLng) * ratio);
+					if (distanceSquared <= bufferSquared) {
+						seen.add(current.id(slot));
+						candidates.add(new CorridorFacility(current.point(slot), segmentStart + segmentLength * ratio,
+							Math.sqrt(distanceSquared)));
+					}
+				});
+		}
+
+		candidates.sort(Comparator.comparingDouble(CorridorFacility::distanceAlong));
+		return candidates;
+	}
+
+	// 경로의 타입별 안전시설 반경(radiusMeters) 포함 정도, combined는 combinedTypes(미지정 시 전체) 기준
+	// 선분마다 반경 원과 겹치는 정확한 구간을 구하므로 굽은 경로에서도 시설이 덮는 길이를 과대평가하지 않는다.
+	public RouteCoverage measureCoverage(RoutePolyline polyline, double radiusMeters,
+		Collection<SafetyFacilityType> combinedTypes) {
+		List<RouteCoverage.Interval> intervals = new ArrayList<>();
+		if (polyline.pointCount() < 2) {
+			return RouteCoverage.sweep(polyline.length(), intervals, typeMask(combinedTypes));
+		}
+
+		StrTree current = tree;
+		LocalPlane plane = LocalPlane.at(polyline.latitude(0));
+		double radiusSquared = radiusMeters * radiusMeters;
+		double latitudeDelta = GeoDistance.metersToLatitudeDegrees(radiusMeters);
+
+		for (int i = 1; i < polyline.pointCount(); i++) {
+			double startLng = polyline.longitude(i - 1);
+			double startLat = polyline.latitude(i - 1);
+			double endLng = polyline.longitude(i);
+			double endLat = polyline.latitude(i);
+			double segmentStart = polyline.cumulativeDistance(i - 1);
+			double segmentLength = polyline.cumulativeDistance(i) - segmentStart;
+			// 평면 근사 길이로 비율을 구하고 실제(haversine) 구간 길이에 곱한다.
+			double planeLength = plane.distance(startLat, startLng, endLat, endLng);
+			if (planeLength == 0) {
+				continue;
+			}
+			double longitudeDelta = GeoDistance.metersToLongitudeDegrees(radiusMeters,
+				Math.max(Math.abs(startLat), Math.abs(endLat)));
+
+			current.search(
+				Math.min(startLat, endLat) - latitudeDelta, Math.min(startLng, endLng) - longitudeDelta,
+				Math.max(startLat, endLat) + latitudeDelta, Math.max(startLng, endLng) + longitudeDelta,
+				slot -> {
+					double lat = current.latitude(slot);
+					double lng = current.longitude(slot);
+					// 선분을 연장한 직선 위로의 투영 위치(along)와 직선까지의 거리 제곱
+					double toStartSquared = plane.distanceSquared(startLat, startLng, lat, lng);
+					double toEndSquared = plane.distanceSquared(endLat, endLng, lat, lng);
+					double along = (toStartSquared - toEndSquared + planeLength * planeLength) / (2 * planeLength);
+					double offsetSquared = Math.max(0.0, toStartSquared - along * along);
+					if (offsetSquared > radiusSquared) {
+						return;
+					}
+					// 직선 위에서 시설과의 거리가 반경 이하인 구간 [along - h, along + h]를 선분으로 자른다.
+					double halfChord = Math.sqrt(radiusSquared - offsetSquared);
+					double from = Math.max(0.0, along - halfChord);
+					double to = Math.min(planeLength, along + halfChord);
+					if (from >= to) {
+						return;
+					}
+					intervals.add(new RouteCoverage.Interval(
+						segmentStart + segmentLength * (from / planeLength),
+						segmentStart + segmentLength * (to / planeLength),
+						current.type(slot).ordinal(), current.id(slot)));
+				});
+		}
+
+		return RouteCoverage.sweep(polyline.length(), intervals, typeMask(combinedTypes));
+	}
+
+	// 타입 필터를 ordinal 기반 배열로 변환 (필터 없음 = null)
+	private static boolean[] typeMask(Collection<SafetyFacilityType> types) {
+		if (types == null || types.isEmpty()) {
+			return null;
+		}
+		boolean[] mask = new boolean[SafetyFacilityType.values().length];
+		for (SafetyFacilityType type : types) {
+			mask[type.ordinal()] = true;
+		}
+		return mask;
+	}
+
+	private static boolean matchesType(StrTree tree, int slot, boolean[] typeMask) {
+		return typeMask == null || typeMask[tree.type(slot).ordinal()];
+	}
+
+	private record Candidate(FacilityPoint point, double sortKey) {
+	}
+}
@@ -0,0 +1,209 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+
+// STR(Sort-Tile-Recursive) 방식으로 한 번에 적재하는 읽기 전용 R-tree
+// 시설 좌표는 객체 대신 기본형 배열에 보관하고, 노드는 레벨별 MBR 배열로 표현한다.
+// 레벨 0의 i번째 노드는 엔트리 [i * NODE_CAPACITY, (i + 1) * NODE_CAPACITY) 구간을,
+// 상위 레벨 노드는 바로 아래 레벨의 같은 구간 노드들을 자식으로 가진다.
+final class StrTree {
+
+	private static final int NODE_CAPACITY = 16;
+	private static final double COORDINATE_SCALE = 1e7;
+	private static final SafetyFacilityType[] TYPES = SafetyFacilityType.values();
+
+	static final StrTree EMPTY = build(List.of());
+
+	private final long[] ids;
+	private final byte[] types;
+	private final double[] latitudes;
+	private final double[] longitudes;
+
+	// [level][node], 마지막 레벨이 루트
+	private final double[][] minLatitudes;
+	private final double[][] minLongitudes;
+	private final double[][] maxLatitudes;
+	private final double[][] maxLongitudes;
+
+	private StrTree(long[] ids, byte[] types, double[] latitudes, double[] longitudes,
+		double[][] minLatitudes, double[][] minLongitudes, double[][] maxLatitudes, double[][] maxLongitudes) {
+		this.ids = ids;
+		this.types = types;
+		this.latitudes = latitudes;
+		this.longitudes = longitudes;
+		this.minLatitudes = minLatitudes;
+		this.minLongitudes = minLongitudes;
+		this.maxLatitudes = maxLatitudes;
+		this.maxLongitudes = maxLongitudes;
+	}
+
+	static StrTree build(List<FacilityPoint> points) {
+		int size = points.size();
+		int[] order = strOrder(points);
+
+		long[] ids = new long[size];
+		byte[] types = new byte[size];
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		for (int slot = 0; slot < size; slot++) {
+			FacilityPoint point = points.get(order[slot]);
+			ids[slot] = point.id();
+			types[slot] = (byte)point.type().ordinal();
+			latitudes[slot] = point.latitude();
+			longitudes[slot] = point.longitude();
+		}
+
+		List<double[]> minLatitudes = new ArrayList<>();
+		List<double[]> minLongitudes = new ArrayList<>();
+		List<double[]> maxLatitudes = new ArrayList<>();
+		List<double[]> maxLongitudes = new ArrayList<>();
+
+		int childCount = size;
+		while (childCount > 0) {
+			int level = minLatitudes.size();
+			int nodeCount = ceilDiv(childCount, NODE_CAPACITY);
+			double[] minLat = new double[nodeCount];
+			double[] minLng = new double[nodeCount];
+			double[] maxLat = new double[nodeCount];
+			double[] maxLng = new double[nodeCount];
+
+			for (int node = 0; node < nodeCount; node++) {
+				int from = node * NODE_CAPACITY;
+				int to = Math.min(from + NODE_CAPACITY, childCount);
+				minLat[node] = Double.POSITIVE_INFINITY;
+				minLng[node] = Double.POSITIVE_INFINITY;
+				maxLat[node] = Double.NEGATIVE_INFINITY;
+				maxLng[node] = Double.NEGATIVE_INFINITY;
+				for (int child = from; child < to; child++) {
+					if (level == 0) {
+						minLat[node] = Math.min(minLat[node], latitudes[child]);
+						minLng[node] = Math.min(minLng[node], longitudes[child]);
+						maxLat[node] = Math.max(maxLat[node], latitudes[child]);
+						maxLng[node] = Math.max(maxLng[node], longitudes[child]);
+					} else {
+						minLat[node] = Math.min(minLat[node], minLatitudes.get(level - 1)[child]);
+						minLng[node] = Math.min(minLng[node], minLongitudes.get(level - 1)[child]);
+						maxLat[node] = Math.max(maxLat[node], maxLatitudes.get(level - 1)[child]);
+						maxLng[node] = Math.max(maxLng[node], maxLongitudes.get(level - 1)[child]);
+					}
+				}
+			}
+
+			minLatitudes.add(minLat);
+			minLongitudes.add(minLng);
+			maxLatitudes.add(maxLat);
+			maxLongitudes.add(maxLng);
+
+			if (nodeCount == 1) {
+				break;
+			}
+			childCount = nodeCount;
+		}
+
+		return new StrTree(ids, types, latitudes, longitudes,
+			minLatitudes.toArray(double[][]::new), minLongitudes.toArray(double[][]::new),
+			maxLatitudes.toArray(double[][]::new), maxLongitudes.toArray(double[][]::new));
+	}
+
+	// 경도 기준으로 수직 슬라이스를 나눈 뒤 각 슬라이스 안에서 위도 기준으로 정렬
+	// 좌표를 정수로 양자화해 (좌표 << 32 | 원본 인덱스) 형태의 long으로 정렬하므로 박싱이 없다.
+	private static int[] strOrder(List<FacilityPoint> points) {
+		int size = points.size();
+		int leafCount = ceilDiv(size, NODE_CAPACITY);
+		int sliceCount = (int)Math.ceil(Math.sqrt(leafCount));
+		int sliceSize = Math.max(sliceCount * NODE_CAPACITY, 1);
+
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = sortKey(points.get(i).longitude(), i);
+		}
+		Arrays.sort(keys);
+
+		int[] order = new int[size];
+		for (int start = 0; start < size; start += sliceSize) {
+			int end = Math.min(size, start + sliceSize);
+			long[] sliceKeys = new long[end - start];
+			for (int i = start; i < end; i++) {
+				int index = (int)keys[i];
+				sliceKeys[i - start] = sortKey(points.get(index).latitude(), index);
+			}
+			Arrays.sort(sliceKeys);
+			for (int i = 0; i < sliceKeys.length; i++) {
+				order[start + i] = (int)sliceKeys[i];
+			}
+		}
+		return order;
+	}
+
+	private static long sortKey(double coordinate, int index) {
+		long quantized = Math.round(coordinate * COORDINATE_SCALE);
+		return (quantized << 32) | index;
+	}
+
+	private static int ceilDiv(int dividend, int divisor) {
+		return (dividend + divisor - 1) / divisor;
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	long id(int slot) {
+		return ids[slot];
+	}
+
+	SafetyFacilityType type(int slot) {
+		return TYPES[types[slot]];
+	}
+
+	double latitude(int slot) {
+		return latitudes[slot];
+	}
+
+	double longitude(int slot) {
+		return longitudes[slot];
+	}
+
+	FacilityPoint point(int slot) {
+		return new FacilityPoint(ids[slot], type(slot), latitudes[slot], longitudes[slot]);
+	}
+
+	// 영역 안의 모든 엔트리 슬롯을 visitor에 전달
+	void search(double minLat, double minLng, double maxLat, double maxLng, IntConsumer visitor) {
+		int rootLevel = minLatitudes.length - 1;
+		if (rootLevel < 0) {
+			return;
+		}
+		searchNode(rootLevel, 0, minLat, minLng, maxLat, maxLng, visitor);
+	}
+
+	private void searchNode(int level, int node, double minLat, double minLng, double maxLat, double maxLng,
+		IntConsumer visitor) {
+		if (minLatitudes[level][node] > maxLat || maxLatitudes[level][node] < minLat
+			|| minLongitudes[level][node] > maxLng || maxLongitudes[level][node] < minLng) {
+			return;
+		}
+
+		int from = node * NODE_CAPACITY;
+		if (level == 0) {
+			int to = Math.min(from + NODE_CAPACITY, ids.length);
+			for (int slot = from; slot < to; slot++) {
+				if (latitudes[slot] >= minLat && latitudes[slot] <= maxLat
+					&& longitudes[slot] >= minLng && longitudes[slot] <= maxLng) {
+					visitor.accept(slot);
+				}
+			}
+			return;
+		}
+
+		int to = Math.min(from + NODE_CAPACITY, minLatitudes[level - 1].length);
+		for (int child = from; child < to; child++) {
+			searchNode(level - 1, child, minLat, minLng, maxLat, maxLng, visitor);
+		}
+	}
+}
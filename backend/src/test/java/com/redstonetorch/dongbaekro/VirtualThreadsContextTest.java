@@ -0,0 +1,58 @@
+package com.redstonetorch.dongbaekro;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+
+// virtual-threads 프로필로 전체 컨텍스트를 띄우고 카카오 executor가 가상 스레드에서 JPA 조회까지 수행하는지 확인
+// 가상 스레드는 Java 21 이상에서만 켜지므로 ./gradlew test -PjavaVersion=21 로 실행 (DB는 H2로 대체)
+@SpringBootTest(properties = {
+	"JWT_SECRET=virtual-threads-context-test-secret-key-0123456789",
+	"JWT_EXPIRATION=3600000",
+	"JWT_REFRESH_EXPIRATION=86400000",
+	"KAKAO_REST_API=test"})
+@ActiveProfiles("virtual-threads")
+@AutoConfigureTestDatabase
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsContextTest {
+
+	@Autowired
+	@Qualifier("kakaoTaskExecutor")
+	private AsyncTaskExecutor kakaoTaskExecutor;
+	@Autowired
+	private SafetyFacilityService safetyFacilityService;
+
+	@Test
+	void contextLoadsWithVirtualThreadExecutors() throws Exception {
+		assertInstanceOf(SimpleAsyncTaskExecutor.class, kakaoTaskExecutor);
+
+		Future<Boolean> virtual = kakaoTaskExecutor.submit(() -> {
+			List<SafetyFacilityResponse> facilities = safetyFacilityService.findWithinRadius(37.5665, 126.978, 300,
+				null);
+			assertTrue(facilities.isEmpty());
+			return isVirtual(Thread.currentThread());
+		});
+		assertTrue(virtual.get(10, TimeUnit.SECONDS));
+	}
+
+	// Java 17로 컴파일되는 테스트 소스에서 Thread.isVirtual()(Java 21)을 호출
+	private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+		return (boolean)Thread.class.getMethod("isVirtual").invoke(thread);
+	}
+}
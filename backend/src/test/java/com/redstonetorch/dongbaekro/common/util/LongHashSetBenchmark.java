@@ -0,0 +1,92 @@
+package com.redstonetorch.dongbaekro.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// 경로 주변 후보 시설 1만 개(ID 1~6000, 중복 포함)의 중복 제거 비용 비교 (./gradlew benchmark)
+// 기존 List + noneMatch, HashSet<Long>, LongHashSet
+@Tag("benchmark")
+class LongHashSetBenchmark {
+
+	private static final int CANDIDATES = 10_000;
+	private static final int ID_RANGE = 6_000;
+	private static final int WARMUP_ROUNDS = 200;
+	private static final int MEASURED_ROUNDS = 500;
+	// 목록 선형 검색은 느리므로 적은 횟수만 측정
+	private static final int LIST_ROUNDS = 5;
+
+	@Test
+	void deduplicateCandidates() {
+		Random random = new Random(7L);
+		long[] ids = new long[CANDIDATES];
+		for (int i = 0; i < CANDIDATES; i++) {
+			ids[i] = 1 + random.nextInt(ID_RANGE);
+		}
+
+		int expected = dedupeWithHashSet(ids);
+		assertEquals(expected, dedupeWithLongHashSet(ids));
+		assertEquals(expected, dedupeWithList(ids));
+
+		long sink = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			sink += dedupeWithHashSet(ids) + dedupeWithLongHashSet(ids);
+		}
+
+		long start = System.nanoTime();
+		for (int round = 0; round < LIST_ROUNDS; round++) {
+			sink += dedupeWithList(ids);
+		}
+		double listMillis = (System.nanoTime() - start) / 1_000_000.0 / LIST_ROUNDS;
+
+		start = System.nanoTime();
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			sink += dedupeWithHashSet(ids);
+		}
+		double hashSetMillis = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+
+		start = System.nanoTime();
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			sink += dedupeWithLongHashSet(ids);
+		}
+		double longHashSetMillis = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+
+		assertTrue(sink > 0);
+		System.out.printf("De-duplicating %,d candidates (%,d unique): list+noneMatch %.2f ms, "
+				+ "HashSet<Long> %.3f ms, LongHashSet %.3f ms%n",
+			CANDIDATES, expected, listMillis, hashSetMillis, longHashSetMillis);
+	}
+
+	private static int dedupeWithList(long[] ids) {
+		List<Long> unique = new ArrayList<>();
+		for (long id : ids) {
+			if (unique.stream().noneMatch(existing -> existing == id)) {
+				unique.add(id);
+			}
+		}
+		return unique.size();
+	}
+
+	private static int dedupeWithHashSet(long[] ids) {
+		Set<Long> unique = new HashSet<>();
+		for (long id : ids) {
+			unique.add(id);
+		}
+		return unique.size();
+	}
+
+	private static int dedupeWithLongHashSet(long[] ids) {
+		LongHashSet unique = new LongHashSet();
+		for (long id : ids) {
+			unique.add(id);
+		}
+		return unique.size();
+	}
+}
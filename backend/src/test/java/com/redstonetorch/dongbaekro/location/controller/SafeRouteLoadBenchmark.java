@@ -0,0 +1,181 @@
+package com.redstonetorch.dongbaekro.location.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.redstonetorch.dongbaekro.common.dto.response.ApiResponse;
+import com.redstonetorch.dongbaekro.common.exception.GlobalExceptionHandler;
+import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+import com.redstonetorch.dongbaekro.location.service.KakaoLocationService;
+import com.redstonetorch.dongbaekro.location.service.RouteScoreService;
+import com.redstonetorch.dongbaekro.location.service.SafeRouteCoalescer;
+import com.redstonetorch.dongbaekro.location.service.SafeRouteService;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+import com.redstonetorch.dongbaekro.location.service.WalkingRouteProvider;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Tomcat 작업 스레드 16개에서 카카오 응답이 200ms 걸릴 때 동시 클라이언트 200개의 처리량 비교 (./gradlew benchmark)
+// 비동기: /safe-route (응답 대기 중 작업 스레드 반환), 동기: 같은 서비스 결과를 요청 스레드에서 join (변경 전 방식)
+// 요청마다 출발지를 바꿔 single-flight 합치기가 일어나지 않도록 한다.
+@Tag("benchmark")
+@SpringBootTest(
+	classes = SafeRouteLoadBenchmark.LoadConfig.class,
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {"server.tomcat.threads.max=" + SafeRouteLoadBenchmark.TOMCAT_THREADS,
+		"server.tomcat.threads.min-spare=" + SafeRouteLoadBenchmark.TOMCAT_THREADS,
+		"spring.mvc.async.request-timeout=30s",
+		// 요청마다 남는 INFO 로그가 표준 출력을 거치며 측정을 왜곡하지 않도록
+		"logging.level.com.redstonetorch=warn"})
+class SafeRouteLoadBenchmark {
+
+	static final int TOMCAT_THREADS = 16;
+	private static final long ROUTE_LATENCY_MILLIS = 200;
+	private static final int CLIENTS = 200;
+	private static final int WARMUP_REQUESTS = 400;
+	private static final int REQUESTS = 1_000;
+
+	private static final AtomicInteger origins = new AtomicInteger();
+
+	@LocalServerPort
+	private int port;
+
+	@MockitoBean
+	private SafetyFacilityService safetyFacilityService;
+	@MockitoBean
+	private KakaoLocationService kakaoLocationService;
+	@MockitoBean
+	private RouteScoreService routeScoreService;
+	@MockitoBean
+	private SafetyFacilityRepository safetyFacilityRepository;
+
+	@Test
+	void asyncEndpointAgainstBlockingEndpoint() throws Exception {
+		HttpClient client = HttpClient.newBuilder().build();
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		try {
+			run(client, clients, "/api/safety-facilities/safe-route", WARMUP_REQUESTS);
+			double asyncRate = run(client, clients, "/api/safety-facilities/safe-route", REQUESTS);
+			run(client, clients, "/benchmark/blocking-safe-route", WARMUP_REQUESTS / 4);
+			double blockingRate = run(client, clients, "/benchmark/blocking-safe-route", REQUESTS);
+
+			System.out.printf("%d Tomcat threads, %d clients, %dms route latency: async %.0f req/s, "
+					+ "blocking %.0f req/s (x%.1f)%n",
+				TOMCAT_THREADS, CLIENTS, ROUTE_LATENCY_MILLIS, asyncRate, blockingRate, asyncRate / blockingRate);
+			assertTrue(asyncRate > blockingRate);
+		} finally {
+			clients.shutdownNow();
+		}
+	}
+
+	// 동시 클라이언트 CLIENTS개로 requests건을 보내고 초당 처리량 반환 (모두 200이어야 함)
+	private double run(HttpClient client, ExecutorService clients, String path, int requests) throws Exception {
+		AtomicInteger remaining = new AtomicInteger(requests);
+		List<Future<?>> workers = new ArrayList<>(CLIENTS);
+		long start = System.nanoTime();
+		for (int i = 0; i < CLIENTS; i++) {
+			workers.add(clients.submit(() -> {
+				while (remaining.getAndDecrement() > 0) {
+					HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).build(),
+						HttpResponse.BodyHandlers.ofString());
+					assertEquals(200, response.statusCode(), response.body());
+				}
+				return null;
+			}));
+		}
+		for (Future<?> worker : workers) {
+			worker.get(5, TimeUnit.MINUTES);
+		}
+		return requests / ((System.nanoTime() - start) / 1e9);
+	}
+
+	// 약 100m 간격으로 출발지를 옮겨 요청마다 다른 single-flight 키
+	private URI uri(String path) {
+		double originLatitude = 37.40 + origins.incrementAndGet() % 10_000 * 0.001;
+		return URI.create(String.format(Locale.ROOT,
+			"http://localhost:%d%s?originLatitude=%.4f&originLongitude=126.9780"
+				+ "&destinationLatitude=37.5700&destinationLongitude=126.9900", port, path, originLatitude));
+	}
+
+	// 변경 전처럼 경로 계산이 끝날 때까지 요청 스레드에서 기다리는 엔드포인트
+	@RestController
+	static class BlockingSafeRouteController {
+
+		private final SafeRouteService safeRouteService;
+
+		BlockingSafeRouteController(SafeRouteService safeRouteService) {
+			this.safeRouteService = safeRouteService;
+		}
+
+		@GetMapping("/benchmark/blocking-safe-route")
+		ResponseEntity<ApiResponse<SafeRouteResponse>> blockingSafeRoute(
+			@RequestParam double originLatitude,
+			@RequestParam double originLongitude,
+			@RequestParam double destinationLatitude,
+			@RequestParam double destinationLongitude) {
+			SafeRouteRequest request = new SafeRouteRequest(originLatitude, originLongitude,
+				destinationLatitude, destinationLongitude, null, null, null);
+			return ResponseEntity.ok(ApiResponse.success(safeRouteService.generateSafeRoute(request).join()));
+		}
+	}
+
+	@Configuration
+	@ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class,
+		EmbeddedWebServerFactoryCustomizerAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+		WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class})
+	@Import({SafetyFacilityController.class, BlockingSafeRouteController.class, GlobalExceptionHandler.class,
+		SafeRouteService.class, SafeRouteCoalescer.class, SafetyFacilityIndex.class})
+	static class LoadConfig {
+
+		// 스레드를 막지 않고 ROUTE_LATENCY_MILLIS 뒤에 응답하는 카카오 대역
+		@Bean
+		WalkingRouteProvider walkingRouteProvider() {
+			return request -> CompletableFuture.supplyAsync(
+				() -> SafetyFacilityControllerTest.route(1200, 900),
+				CompletableFuture.delayedExecutor(ROUTE_LATENCY_MILLIS, TimeUnit.MILLISECONDS));
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
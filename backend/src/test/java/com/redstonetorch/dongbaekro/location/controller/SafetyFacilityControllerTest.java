@@ -0,0 +1,206 @@
+package com.redstonetorch.dongbaekro.location.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.redstonetorch.dongbaekro.auth.jwt.JwtAuthenticationFilter;
+import com.redstonetorch.dongbaekro.auth.jwt.JwtTokenProvider;
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.config.SecurityConfig;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+import com.redstonetorch.dongbaekro.location.service.KakaoLocationService;
+import com.redstonetorch.dongbaekro.location.service.RouteScoreService;
+import com.redstonetorch.dongbaekro.location.service.SafeRouteCoalescer;
+import com.redstonetorch.dongbaekro.location.service.SafeRouteService;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+import com.redstonetorch.dongbaekro.location.service.WalkingRouteProvider;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+
+// /safe-route 비동기 응답: 요청 스레드 반환 후 재디스패치, GlobalExceptionHandler 오류 변환, 응답 시간 초과, ASYNC 디스패치 인가
+// 카카오 대신 결과를 테스트에서 정하는 WalkingRouteProvider를 사용하고, 시설 인덱스는 비어 있어 기본 경로만 응답한다.
+@WebMvcTest(SafetyFacilityController.class)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, SafeRouteService.class, SafeRouteCoalescer.class,
+	SafetyFacilityIndex.class, SafetyFacilityControllerTest.StubRouteConfig.class})
+class SafetyFacilityControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private StubWalkingRouteProvider walkingRouteProvider;
+
+	@MockitoBean
+	private SafetyFacilityService safetyFacilityService;
+	@MockitoBean
+	private KakaoLocationService kakaoLocationService;
+	@MockitoBean
+	private RouteScoreService routeScoreService;
+	@MockitoBean
+	private SafetyFacilityRepository safetyFacilityRepository;
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	private final CompletableFuture<KakaoWalkingDirectionsResponse> pending = new CompletableFuture<>();
+
+	@AfterEach
+	void completePending() {
+		// 응답하지 않은 경로 요청을 끝내 single-flight 항목이 다음 테스트에 남지 않도록
+		pending.complete(route(1200, 900));
+	}
+
+	@Test
+	void safeRouteIsDispatchedAsynchronously() throws Exception {
+		walkingRouteProvider.respondWith(request -> CompletableFuture.supplyAsync(() -> route(1200, 900)));
+
+		MvcResult result = mockMvc.perform(safeRoute().with(user("1")))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("success"))
+			.andExpect(jsonPath("$.data.originalRoute.routes[0].summary.distance").value(1200))
+			.andExpect(jsonPath("$.data.degraded").value(false));
+	}
+
+	@Test
+	void customExceptionKeepsItsStatus() throws Exception {
+		walkingRouteProvider.respondWith(request -> CompletableFuture.failedFuture(
+			new CustomException(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE)));
+
+		MvcResult result = mockMvc.perform(safeRoute().with(user("1")))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().is(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE.getStatus().value()))
+			.andExpect(jsonPath("$.status").value("error"))
+			.andExpect(jsonPath("$.data.errorCode").value(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE.getCode()));
+	}
+
+	@Test
+	void unexpectedFailureIsInternalServerError() throws Exception {
+		walkingRouteProvider.respondWith(request -> CompletableFuture.failedFuture(
+			new IllegalStateException("boom")));
+
+		MvcResult result = mockMvc.perform(safeRoute().with(user("1")))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isInternalServerError())
+			.andExpect(jsonPath("$.data.errorCode").value(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR.getCode()));
+	}
+
+	// 컨테이너가 spring.mvc.async.request-timeout(30s)이 지나 보내는 timeout 이벤트를 직접 발생시킨다.
+	@Test
+	void pendingRouteTimesOut() throws Exception {
+		walkingRouteProvider.respondWith(request -> pending);
+
+		MvcResult result = mockMvc.perform(safeRoute().with(user("1")))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		MockAsyncContext asyncContext = (MockAsyncContext)result.getRequest().getAsyncContext();
+		assertEquals(30_000L, asyncContext.getTimeout());
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().is(ErrorCode.GLOBAL_REQUEST_TIMEOUT.getStatus().value()))
+			.andExpect(jsonPath("$.data.errorCode").value(ErrorCode.GLOBAL_REQUEST_TIMEOUT.getCode()));
+	}
+
+	@Test
+	void initialRequestRequiresAuthentication() throws Exception {
+		walkingRouteProvider.respondWith(request -> CompletableFuture.completedFuture(route(1200, 900)));
+
+		mockMvc.perform(safeRoute())
+			.andExpect(request().asyncNotStarted())
+			.andExpect(status().isForbidden());
+	}
+
+	// 재디스패치에는 JWT가 다시 검사되지 않으므로(OncePerRequestFilter) ASYNC 디스패치는 인증 없이 통과해야 한다.
+	@Test
+	void asyncDispatchIsPermittedWithoutAuthentication() throws Exception {
+		walkingRouteProvider.respondWith(request -> CompletableFuture.completedFuture(route(1200, 900)));
+
+		mockMvc.perform(safeRoute().with(request -> {
+				request.setDispatcherType(DispatcherType.ASYNC);
+				return request;
+			}))
+			.andExpect(request().asyncStarted());
+	}
+
+	private static MockHttpServletRequestBuilder safeRoute() {
+		return get("/api/safety-facilities/safe-route")
+			.param("originLatitude", "37.5665")
+			.param("originLongitude", "126.9780")
+			.param("destinationLatitude", "37.5700")
+			.param("destinationLongitude", "126.9900");
+	}
+
+	static KakaoWalkingDirectionsResponse route(int distance, int duration) {
+		return new KakaoWalkingDirectionsResponse("stub", List.of(new KakaoWalkingDirectionsResponse.Route(
+			0, "길찾기 성공", new KakaoWalkingDirectionsResponse.Summary(distance, duration), List.of())));
+	}
+
+	// 테스트마다 응답(완료 시점, 실패)을 정하는 도보 경로 탐색
+	static class StubWalkingRouteProvider implements WalkingRouteProvider {
+
+		private volatile Function<WalkingWaypointsRequest, CompletableFuture<KakaoWalkingDirectionsResponse>>
+			responder = request -> CompletableFuture.completedFuture(route(1200, 900));
+
+		void respondWith(
+			Function<WalkingWaypointsRequest, CompletableFuture<KakaoWalkingDirectionsResponse>> responder) {
+			this.responder = responder;
+		}
+
+		@Override
+		public CompletableFuture<KakaoWalkingDirectionsResponse> findRoute(WalkingWaypointsRequest request) {
+			return responder.apply(request);
+		}
+	}
+
+	@TestConfiguration
+	static class StubRouteConfig {
+
+		@Bean
+		StubWalkingRouteProvider walkingRouteProvider() {
+			return new StubWalkingRouteProvider();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.redstonetorch.dongbaekro.location.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+// 반경 검색 쿼리 비교용 시설 데이터
+final class SafetyFacilityFixtures {
+
+	// 제주, 서울, 강원 북부와 위도 60도 (경도 1도 길이가 위도에 따라 크게 달라지는 경우)
+	static final double[][] CENTERS = {
+		{33.25, 126.56},
+		{37.5665, 126.978},
+		{38.2, 128.59},
+		{60.0, 25.0}
+	};
+
+	private SafetyFacilityFixtures() {
+	}
+
+	// 중심에서 15도 간격 방향마다 반경 경계 안쪽/바깥쪽 0.5m, 반경 절반, 그리고 사각형 모서리 쪽(반경 × 1.3) 지점
+	// 반경 × 1.3 지점은 45도 방향에서 위경도 사각형 안에 있지만 원 밖이므로 사각형 조건만으로는 걸러지지 않는다.
+	static List<SafetyFacility> ringAround(double latitude, double longitude, double radiusMeters) {
+		List<SafetyFacility> facilities = new ArrayList<>();
+		for (int bearing = 0; bearing < 360; bearing += 15) {
+			for (double distance : new double[] {
+				radiusMeters - 0.5, radiusMeters + 0.5, radiusMeters / 2, radiusMeters * 1.3}) {
+				double[] point = destination(latitude, longitude, distance, bearing);
+				facilities.add(facility(SafetyFacilityType.values()[facilities.size() % 2], point[0], point[1]));
+			}
+		}
+		return facilities;
+	}
+
+	static SafetyFacility facility(SafetyFacilityType type, double latitude, double longitude) {
+		return SafetyFacility.builder()
+			.type(type)
+			.name("fixture")
+			.latitude(latitude)
+			.longitude(longitude)
+			.address_name("fixture")
+			.region_1depth_name("fixture")
+			.region_2depth_name("fixture")
+			.region_3depth_name("fixture")
+			.code("0000000000")
+			.build();
+	}
+
+	// 구면에서 (latitude, longitude)로부터 bearing 방향(북쪽 0도, 시계 방향)으로 meters 떨어진 지점
+	static double[] destination(double latitude, double longitude, double meters, double bearingDegrees) {
+		double angular = meters / GeoDistance.EARTH_RADIUS_METERS;
+		double bearing = Math.toRadians(bearingDegrees);
+		double lat1 = Math.toRadians(latitude);
+		double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+			+ Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+		double lng2 = Math.toRadians(longitude) + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+			Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+		return new double[] {Math.toDegrees(lat2), Math.toDegrees(lng2)};
+	}
+}
@@ -0,0 +1,101 @@
+package com.redstonetorch.dongbaekro.location.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+
+// 시설 10만 개(서울 크기 영역, H2)에서 위경도 사각형 + (latitude, longitude) 인덱스 반경 검색과
+// 기존 acos 전체 계산 쿼리의 조회 시간 비교 (./gradlew benchmark)
+// H2의 실행 계획은 MySQL과 다르므로 절대값보다 두 쿼리의 비율을 본다.
+@Tag("benchmark")
+@DataJpaTest
+@Import({SafetyFacilitySpatialSchema.class, SafetyFacilityService.class})
+class SafetyFacilityRepositoryBenchmark {
+
+	private static final int FACILITY_COUNT = 100_000;
+	private static final int BATCH_SIZE = 5_000;
+	private static final double RADIUS_METERS = 300;
+	private static final int WARMUP_QUERIES = 50;
+	private static final int BOX_QUERIES = 500;
+	private static final int ACOS_QUERIES = 20;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private SafetyFacilityRepository safetyFacilityRepository;
+	@Autowired
+	private SafetyFacilityService safetyFacilityService;
+
+	@Test
+	void boundingBoxAgainstAcosOnly() {
+		Random random = new Random(4L);
+		SafetyFacilityType[] types = SafetyFacilityType.values();
+		List<SafetyFacility> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < FACILITY_COUNT; i++) {
+			batch.add(SafetyFacilityFixtures.facility(types[random.nextInt(types.length)],
+				37.43 + random.nextDouble() * 0.27, 126.76 + random.nextDouble() * 0.42));
+			if (batch.size() == BATCH_SIZE) {
+				safetyFacilityRepository.saveAll(batch);
+				entityManager.flush();
+				entityManager.clear();
+				batch.clear();
+			}
+		}
+
+		double[][] queries = new double[WARMUP_QUERIES + BOX_QUERIES][];
+		for (int i = 0; i < queries.length; i++) {
+			queries[i] = new double[] {37.45 + random.nextDouble() * 0.23, 126.78 + random.nextDouble() * 0.38};
+		}
+
+		long found = 0;
+		for (int i = 0; i < WARMUP_QUERIES; i++) {
+			found += safetyFacilityService.findWithinRadius(queries[i][0], queries[i][1], RADIUS_METERS, null).size();
+			entityManager.clear();
+		}
+		long boxStart = System.nanoTime();
+		for (int i = WARMUP_QUERIES; i < queries.length; i++) {
+			found += safetyFacilityService.findWithinRadius(queries[i][0], queries[i][1], RADIUS_METERS, null).size();
+			entityManager.clear();
+		}
+		long boxNanos = System.nanoTime() - boxStart;
+
+		long acosFound = 0;
+		long boxFound = 0;
+		long acosStart = System.nanoTime();
+		for (int i = 0; i < ACOS_QUERIES; i++) {
+			acosFound += entityManager.getEntityManager()
+				.createQuery(SafetyFacilityRepositoryTest.ACOS_ONLY_QUERY, SafetyFacility.class)
+				.setParameter("latitude", queries[i][0])
+				.setParameter("longitude", queries[i][1])
+				.setParameter("radiusMeters", RADIUS_METERS)
+				.getResultList()
+				.size();
+			entityManager.clear();
+		}
+		long acosNanos = System.nanoTime() - acosStart;
+		for (int i = 0; i < ACOS_QUERIES; i++) {
+			boxFound += safetyFacilityService.findWithinRadius(queries[i][0], queries[i][1], RADIUS_METERS, null)
+				.size();
+			entityManager.clear();
+		}
+		assertEquals(acosFound, boxFound);
+
+		System.out.printf("H2 radius %.0fm over %,d facilities: bounding box %.2f ms/op (%.1f results/op), "
+				+ "acos only %.2f ms/op%n",
+			RADIUS_METERS, FACILITY_COUNT, boxNanos / 1_000_000.0 / BOX_QUERIES, (double)found / queries.length,
+			acosNanos / 1_000_000.0 / ACOS_QUERIES);
+	}
+}
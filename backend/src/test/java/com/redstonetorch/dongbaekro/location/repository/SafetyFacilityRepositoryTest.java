@@ -0,0 +1,108 @@
+package com.redstonetorch.dongbaekro.location.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
+import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+// H2에서 위경도 사각형 + acos 반경 검색(JPQL)이 사각형 조건 없는 기존 acos 쿼리와 같은 시설을 반환하는지 확인
+// 공간 인덱스 준비(initialize)를 하지 않으므로 SafetyFacilityService는 JPQL 경로를 사용한다.
+@DataJpaTest
+@Import({SafetyFacilitySpatialSchema.class, SafetyFacilityService.class})
+class SafetyFacilityRepositoryTest {
+
+	// 사각형 조건을 추가하기 전의 반경 검색 (모든 행에 구면 거리 계산)
+	static final String ACOS_ONLY_QUERY = """
+		SELECT sf FROM SafetyFacility sf
+		WHERE (6371000 * acos(
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
+			sin(radians(:latitude)) * sin(radians(sf.latitude))
+		)) <= :radiusMeters
+		ORDER BY (6371000 * acos(
+			cos(radians(:latitude)) * cos(radians(sf.latitude)) *
+			cos(radians(sf.longitude) - radians(:longitude)) +
+			sin(radians(:latitude)) * sin(radians(sf.latitude))
+		))
+		""";
+
+	private static final double[] RADII = {100, 300, 1000};
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private SafetyFacilityRepository safetyFacilityRepository;
+	@Autowired
+	private SafetyFacilityService safetyFacilityService;
+
+	@BeforeEach
+	void insertFixtures() {
+		for (double[] center : SafetyFacilityFixtures.CENTERS) {
+			for (double radius : RADII) {
+				safetyFacilityRepository.saveAll(SafetyFacilityFixtures.ringAround(center[0], center[1], radius));
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	// 반경 경계 ±0.5m 지점과 사각형 모서리 쪽 원 밖 지점을 위도 33~60도에서 비교
+	@Test
+	void boundingBoxQueryMatchesAcosOnlyQuery() {
+		for (double[] center : SafetyFacilityFixtures.CENTERS) {
+			for (double radius : RADII) {
+				Set<Long> expected = acosOnly(center, radius).stream()
+					.map(SafetyFacility::getId)
+					.collect(Collectors.toSet());
+				List<SafetyFacilityResponse> found = safetyFacilityService.findWithinRadius(center[0], center[1],
+					radius, null);
+
+				String message = "center " + center[0] + ", " + center[1] + " radius " + radius;
+				assertFalse(expected.isEmpty(), message);
+				assertEquals(expected, found.stream().map(SafetyFacilityResponse::id).collect(Collectors.toSet()),
+					message);
+				for (SafetyFacilityResponse facility : found) {
+					assertTrue(GeoDistance.haversine(center[0], center[1], facility.latitude(), facility.longitude())
+						<= radius + 1e-3, message);
+				}
+			}
+		}
+	}
+
+	@Test
+	void typeFilteredQueryMatchesAcosOnlyQuery() {
+		for (double[] center : SafetyFacilityFixtures.CENTERS) {
+			Set<Long> expected = acosOnly(center, 300).stream()
+				.filter(facility -> facility.getType() == SafetyFacilityType.CCTV)
+				.map(SafetyFacility::getId)
+				.collect(Collectors.toSet());
+			List<SafetyFacilityResponse> found = safetyFacilityService.findWithinRadius(center[0], center[1], 300,
+				List.of(SafetyFacilityType.CCTV));
+
+			assertFalse(expected.isEmpty());
+			assertEquals(expected, found.stream().map(SafetyFacilityResponse::id).collect(Collectors.toSet()));
+		}
+	}
+
+	private List<SafetyFacility> acosOnly(double[] center, double radius) {
+		return entityManager.getEntityManager().createQuery(ACOS_ONLY_QUERY, SafetyFacility.class)
+			.setParameter("latitude", center[0])
+			.setParameter("longitude", center[1])
+			.setParameter("radiusMeters", radius)
+			.getResultList();
+	}
+}
@@ -0,0 +1,160 @@
+package com.redstonetorch.dongbaekro.location.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.dto.response.SafetyFacilityResponse;
+import com.redstonetorch.dongbaekro.location.entity.SafetyFacility;
+import com.redstonetorch.dongbaekro.location.service.SafetyFacilityService;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+// MySQL 8 컨테이너에서 공간 컬럼/인덱스 준비와 MBRContains + ST_Distance_Sphere 반경 검색 확인 (Docker 없으면 건너뜀)
+// ALTER TABLE은 암묵적으로 커밋되므로 테스트 트랜잭션 없이 실행하고, 매 테스트 전에 컬럼과 행을 지운다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SafetyFacilitySpatialSchema.class, SafetyFacilityService.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SafetyFacilitySpatialSchemaTest {
+
+	private static final double RADIUS_METERS = 300;
+
+	@Container
+	@ServiceConnection
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private SafetyFacilityRepository safetyFacilityRepository;
+	@Autowired
+	private SafetyFacilitySpatialSchema safetyFacilitySpatialSchema;
+	@Autowired
+	private SafetyFacilityService safetyFacilityService;
+
+	@BeforeEach
+	void dropSpatialColumn() {
+		safetyFacilityRepository.deleteAllInBatch();
+		if (countColumns() > 0) {
+			// 컬럼을 지우면 그 컬럼의 SPATIAL INDEX도 함께 지워진다.
+			jdbcTemplate.execute("ALTER TABLE safety_facilities DROP COLUMN location");
+		}
+	}
+
+	@Test
+	void initializeIsIdempotent() {
+		safetyFacilitySpatialSchema.initialize();
+		safetyFacilitySpatialSchema.initialize();
+		// 재기동: 컬럼과 인덱스가 이미 있는 상태에서 새 인스턴스로 준비
+		SafetyFacilitySpatialSchema restarted = new SafetyFacilitySpatialSchema(jdbcTemplate, true);
+		restarted.initialize();
+
+		assertTrue(safetyFacilitySpatialSchema.isAvailable());
+		assertTrue(restarted.isAvailable());
+		assertEquals(1, countColumns());
+		assertEquals(1, jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.STATISTICS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'safety_facilities'
+			AND INDEX_NAME = 'idx_safety_facilities_location' AND INDEX_TYPE = 'SPATIAL'
+			""", Integer.class));
+	}
+
+	@Test
+	void generatedColumnUsesLatitudeLongitudeAxisOrder() {
+		// 컬럼을 추가하기 전에 있던 행은 ALTER 시점에 채워지고, 이후 JPA INSERT도 자동으로 채워진다.
+		SafetyFacility before = safetyFacilityRepository.saveAndFlush(
+			SafetyFacilityFixtures.facility(SafetyFacilityType.CCTV, 37.5665, 126.978));
+		safetyFacilitySpatialSchema.initialize();
+		SafetyFacility after = safetyFacilityRepository.saveAndFlush(
+			SafetyFacilityFixtures.facility(SafetyFacilityType.CCTV, 33.25, 126.56));
+
+		for (SafetyFacility facility : List.of(before, after)) {
+			double[] stored = jdbcTemplate.queryForObject("""
+				SELECT ST_Latitude(location), ST_Longitude(location), ST_SRID(location)
+				FROM safety_facilities WHERE id = ?
+				""", (rs, rowNum) -> new double[] {rs.getDouble(1), rs.getDouble(2), rs.getInt(3)}, facility.getId());
+			assertEquals(facility.getLatitude(), stored[0], 1e-9);
+			assertEquals(facility.getLongitude(), stored[1], 1e-9);
+			assertEquals(4326, (int)stored[2]);
+		}
+	}
+
+	// 경계 ±0.5m 지점까지 GeoDistance.haversine 판정과 같은 시설을 가까운 순으로 반환해야 한다.
+	@Test
+	void spatialRadiusSearchMatchesGeoDistance() {
+		safetyFacilitySpatialSchema.initialize();
+		assertTrue(safetyFacilitySpatialSchema.isAvailable());
+		for (double[] center : SafetyFacilityFixtures.CENTERS) {
+			safetyFacilityRepository.saveAll(SafetyFacilityFixtures.ringAround(center[0], center[1], RADIUS_METERS));
+		}
+		List<SafetyFacility> all = safetyFacilityRepository.findAll();
+
+		for (double[] center : SafetyFacilityFixtures.CENTERS) {
+			Set<Long> expected = all.stream()
+				.filter(facility -> distance(center, facility) <= RADIUS_METERS)
+				.map(SafetyFacility::getId)
+				.collect(Collectors.toSet());
+			List<SafetyFacilityResponse> found = safetyFacilityService.findWithinRadius(center[0], center[1],
+				RADIUS_METERS, null);
+
+			assertEquals(expected, found.stream().map(SafetyFacilityResponse::id).collect(Collectors.toSet()),
+				"center " + center[0] + ", " + center[1]);
+			// 같은 거리의 다른 방향 지점은 순서가 바뀔 수 있으므로 1mm 오차 허용
+			for (int i = 1; i < found.size(); i++) {
+				assertTrue(distance(center, found.get(i)) >= distance(center, found.get(i - 1)) - 1e-3);
+			}
+		}
+	}
+
+	// ST_Distance_Sphere(기본 반지름 6,370,986m)와 GeoDistance(6,371,000m)의 차이는 백만분의 몇 수준
+	@Test
+	void distanceSphereAgreesWithHaversine() {
+		safetyFacilitySpatialSchema.initialize();
+		double[] center = SafetyFacilityFixtures.CENTERS[1];
+		List<SafetyFacility> facilities = safetyFacilityRepository.saveAll(
+			SafetyFacilityFixtures.ringAround(center[0], center[1], RADIUS_METERS));
+
+		for (SafetyFacility facility : facilities) {
+			Double sphere = jdbcTemplate.queryForObject("""
+				SELECT ST_Distance_Sphere(location, ST_SRID(POINT(?, ?), 4326))
+				FROM safety_facilities WHERE id = ?
+				""", Double.class, center[0], center[1], facility.getId());
+			double expected = distance(center, facility);
+			assertEquals(expected, sphere, expected * 1e-5);
+		}
+	}
+
+	private int countColumns() {
+		Integer count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM information_schema.COLUMNS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'safety_facilities' AND COLUMN_NAME = 'location'
+			""", Integer.class);
+		return count == null ? 0 : count;
+	}
+
+	private static double distance(double[] center, SafetyFacility facility) {
+		return GeoDistance.haversine(center[0], center[1], facility.getLatitude(), facility.getLongitude());
+	}
+
+	private static double distance(double[] center, SafetyFacilityResponse facility) {
+		return GeoDistance.haversine(center[0], center[1], facility.latitude(), facility.longitude());
+	}
+}
@@ -0,0 +1,244 @@
+package com.redstonetorch.dongbaekro.location.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+class PedestrianRoutingTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	// 보행 가능한 본 도로망 5노드 (간선 4개):
+	//   (126.999, 37.500) - (127.000, 37.500) - (127.001, 37.500) - (127.002, 37.500)
+	//                                           (127.001, 37.500) - (127.001, 37.501)
+	// 서쪽 끝은 trunk지만 foot=designated라 포함, motorway / foot=no / access=private 도로와
+	// 떨어진 작은 조각(섬)은 제외되어 그 끝 노드가 그래프에 없어야 한다.
+	private static final String FIXTURE = """
+		{
+		  "type": "FeatureCollection",
+		  "name": "fixture",
+		  "features": [
+		    {"type": "Feature", "properties": {"highway": "footway"},
+		     "geometry": {"type": "LineString",
+		       "coordinates": [[127.000, 37.500], [127.001, 37.500], [127.002, 37.500]]}},
+		    {"type": "Feature", "properties": {"highway": "residential"},
+		     "geometry": {"type": "MultiLineString", "coordinates": [[[127.001, 37.500], [127.001, 37.501]]]}},
+		    {"type": "Feature", "properties": {"highway": "trunk", "foot": "designated"},
+		     "geometry": {"type": "LineString", "coordinates": [[127.000, 37.500], [126.999, 37.500]]}},
+		    {"type": "Feature", "properties": {"highway": "motorway"},
+		     "geometry": {"type": "LineString", "coordinates": [[127.002, 37.500], [127.003, 37.500]]}},
+		    {"type": "Feature", "properties": {"highway": "footway", "foot": "no"},
+		     "geometry": {"type": "LineString", "coordinates": [[127.000, 37.500], [127.000, 37.501]]}},
+		    {"type": "Feature", "properties": {"highway": "service", "access": "private"},
+		     "geometry": {"type": "LineString", "coordinates": [[127.001, 37.501], [127.002, 37.501]]}},
+		    {"type": "Feature", "properties": {"highway": "footway"},
+		     "geometry": {"type": "LineString", "coordinates": [[127.010, 37.510], [127.011, 37.510]]}},
+		    {"type": "Feature", "properties": {"amenity": "bench"},
+		     "geometry": {"type": "Point", "coordinates": [127.000, 37.500]}}
+		  ]
+		}
+		""";
+
+	@Test
+	void keepsOnlyWalkableWaysInLargestComponent() throws IOException {
+		PedestrianGraph graph = load(FIXTURE);
+
+		assertEquals(5, graph.nodeCount());
+		assertEquals(8, graph.edgeCount());
+		// foot=designated 이면 trunk 여도 포함
+		assertTrue(graph.nearestNode(37.500, 126.999, 10) >= 0);
+		// motorway, foot=no, access=private 도로의 끝 노드
+		assertEquals(-1, graph.nearestNode(37.500, 127.003, 30));
+		assertEquals(-1, graph.nearestNode(37.501, 127.000, 30));
+		assertEquals(-1, graph.nearestNode(37.501, 127.002, 30));
+		// 본 도로망과 연결되지 않은 섬
+		assertEquals(-1, graph.nearestNode(37.510, 127.010, 30));
+		assertEquals(-1, graph.nearestNode(37.510, 127.011, 30));
+	}
+
+	@Test
+	void nearestNodeReturnsClosestNodeWithinDistance() throws IOException {
+		PedestrianGraph graph = load(FIXTURE);
+
+		// (127.0012, 37.5002)에서 가장 가까운 노드는 (127.001, 37.500), 약 29m
+		int node = graph.nearestNode(37.5002, 127.0012, 50);
+		assertEquals(37.500, graph.latitude(node), 1e-9);
+		assertEquals(127.001, graph.longitude(node), 1e-9);
+		assertEquals(-1, graph.nearestNode(37.5002, 127.0012, 20));
+		// 그래프 범위 밖
+		assertEquals(-1, graph.nearestNode(37.600, 127.100, 200));
+	}
+
+	@Test
+	void routeLengthIsSumOfTraversedEdges() throws IOException {
+		PedestrianGraph graph = load(FIXTURE);
+		AStarRouter router = new AStarRouter(graph, lengthCosts(graph));
+		int source = graph.nearestNode(37.500, 126.999, 1);
+		int target = graph.nearestNode(37.501, 127.001, 1);
+
+		AStarRouter.Path path = router.route(source, target);
+
+		assertEquals(4, path.nodes().length);
+		assertEquals(source, path.nodes()[0]);
+		assertEquals(target, path.nodes()[3]);
+		double expected = GeoDistance.haversine(37.500, 126.999, 37.500, 127.001)
+			+ GeoDistance.haversine(37.500, 127.001, 37.501, 127.001);
+		assertEquals(expected, path.length(), 0.01);
+		assertEquals(path.length(), path.cost(), 0.01);
+
+		AStarRouter.Path same = router.route(source, source);
+		assertArrayEquals(new int[] {source}, same.nodes());
+		assertEquals(0.0, same.length(), 1e-9);
+	}
+
+	// 무작위 비용(길이 이상)의 격자 도로망에서 모든 출발/도착 쌍의 A* 비용이 다익스트라 최단 비용과 같아야 한다.
+	@Test
+	void aStarMatchesDijkstraOnGrid() throws IOException {
+		Random random = new Random(25);
+		PedestrianGraph graph = load(grid(random, 8, 0.0008, 0.001));
+		assertAStarMatchesDijkstra(graph, randomCosts(graph, random, 2));
+	}
+
+	// 위도 37.5~44도에 걸친 격자 (약 55km 간격): 기준 위도 하나의 평면 근사로는 북쪽 끝에서 동서 거리를 5% 가까이 과대평가하므로
+	// 휴리스틱이 구면 거리여야 비용이 거의 같은 경로들 사이에서도 최단 경로를 찾는다.
+	@Test
+	void aStarMatchesDijkstraOnGridSpanningSeveralDegrees() throws IOException {
+		Random random = new Random(25);
+		PedestrianGraph graph = load(grid(random, 14, 0.5, 0.6));
+		assertAStarMatchesDijkstra(graph, randomCosts(graph, random, 0.05f));
+	}
+
+	private static void assertAStarMatchesDijkstra(PedestrianGraph graph, float[] costs) {
+		AStarRouter router = new AStarRouter(graph, costs);
+		for (int source = 0; source < graph.nodeCount(); source++) {
+			double[] shortest = dijkstra(graph, costs, source);
+			for (int target = 0; target < graph.nodeCount(); target++) {
+				AStarRouter.Path path = router.route(source, target);
+				assertNotNull(path);
+				assertEquals(shortest[target], path.cost(), 1e-3, source + " -> " + target);
+				assertPathConsistent(graph, costs, path, source, target);
+			}
+		}
+	}
+
+	private static void assertPathConsistent(PedestrianGraph graph, float[] costs, AStarRouter.Path path,
+		int source, int target) {
+		int[] nodes = path.nodes();
+		assertEquals(source, nodes[0]);
+		assertEquals(target, nodes[nodes.length - 1]);
+		double cost = 0.0;
+		for (int i = 1; i < nodes.length; i++) {
+			double cheapest = Double.MAX_VALUE;
+			for (int edge = graph.firstEdge(nodes[i - 1]); edge < graph.lastEdge(nodes[i - 1]); edge++) {
+				if (graph.edgeTarget(edge) == nodes[i]) {
+					cheapest = Math.min(cheapest, costs[edge]);
+				}
+			}
+			assertTrue(cheapest < Double.MAX_VALUE, "no edge " + nodes[i - 1] + " -> " + nodes[i]);
+			cost += cheapest;
+		}
+		assertEquals(cost, path.cost(), 1e-3);
+	}
+
+	private static double[] dijkstra(PedestrianGraph graph, float[] costs, int source) {
+		double[] distance = new double[graph.nodeCount()];
+		Arrays.fill(distance, Double.POSITIVE_INFINITY);
+		distance[source] = 0.0;
+		PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+		queue.add(new double[] {0.0, source});
+		while (!queue.isEmpty()) {
+			double[] entry = queue.poll();
+			int node = (int)entry[1];
+			if (entry[0] > distance[node]) {
+				continue;
+			}
+			for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+				int next = graph.edgeTarget(edge);
+				double candidate = distance[node] + costs[edge];
+				if (candidate < distance[next]) {
+					distance[next] = candidate;
+					queue.add(new double[] {candidate, next});
+				}
+			}
+		}
+		return distance;
+	}
+
+	// 위도 37.5, 경도 127.0에서 시작하는 size × size 격자와 무작위 대각선 도로
+	private static String grid(Random random, int size, double rowDegrees, double columnDegrees) {
+		StringBuilder features = new StringBuilder();
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				if (column + 1 < size) {
+					appendLine(features, rowDegrees, columnDegrees, row, column, row, column + 1);
+				}
+				if (row + 1 < size) {
+					appendLine(features, rowDegrees, columnDegrees, row, column, row + 1, column);
+				}
+				if (row + 1 < size && column + 1 < size && random.nextInt(3) == 0) {
+					appendLine(features, rowDegrees, columnDegrees, row, column, row + 1, column + 1);
+				}
+			}
+		}
+		return "{\"type\": \"FeatureCollection\", \"features\": [" + features + "]}";
+	}
+
+	private static void appendLine(StringBuilder features, double rowDegrees, double columnDegrees,
+		int row1, int column1, int row2, int column2) {
+		if (!features.isEmpty()) {
+			features.append(',');
+		}
+		features.append("{\"type\": \"Feature\", \"properties\": {\"highway\": \"footway\"}, ")
+			.append("\"geometry\": {\"type\": \"LineString\", \"coordinates\": [")
+			.append(coordinate(rowDegrees * row1, columnDegrees * column1)).append(", ")
+			.append(coordinate(rowDegrees * row2, columnDegrees * column2)).append("]}}");
+	}
+
+	private static String coordinate(double latitudeOffset, double longitudeOffset) {
+		return "[" + (127.0 + longitudeOffset) + ", " + (37.5 + latitudeOffset) + "]";
+	}
+
+	// 길이 × 1~(1 + spread) (양방향 같은 비용), 휴리스틱이 과대평가되지 않도록 항상 길이 이상
+	private static float[] randomCosts(PedestrianGraph graph, Random random, float spread) {
+		float[] costs = new float[graph.edgeCount()];
+		for (int from = 0; from < graph.nodeCount(); from++) {
+			for (int edge = graph.firstEdge(from); edge < graph.lastEdge(from); edge++) {
+				int to = graph.edgeTarget(edge);
+				if (to < from) {
+					continue;
+				}
+				float cost = graph.edgeLength(edge) * (1 + spread * random.nextFloat());
+				costs[edge] = cost;
+				for (int reverse = graph.firstEdge(to); reverse < graph.lastEdge(to); reverse++) {
+					if (graph.edgeTarget(reverse) == from) {
+						costs[reverse] = cost;
+					}
+				}
+			}
+		}
+		return costs;
+	}
+
+	private static float[] lengthCosts(PedestrianGraph graph) {
+		float[] costs = new float[graph.edgeCount()];
+		for (int edge = 0; edge < costs.length; edge++) {
+			costs[edge] = graph.edgeLength(edge);
+		}
+		return costs;
+	}
+
+	private static PedestrianGraph load(String geoJson) throws IOException {
+		return PedestrianGraphLoader.load(new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)),
+			OBJECT_MAPPER);
+	}
+}
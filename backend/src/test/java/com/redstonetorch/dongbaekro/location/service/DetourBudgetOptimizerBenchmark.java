@@ -0,0 +1,67 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.spatial.CorridorFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+
+// 8km 경로 통로 안의 임의 시설 1천~1만 개에서 추가 거리 예산별 경유지 최적화 시간 (./gradlew benchmark)
+// 시설은 모두 경로에서 반경 밖(30~110m)에 두어 원래 경로가 이미 덮는 구간 없이 모든 시설이 후보가 되도록 한다.
+@Tag("benchmark")
+class DetourBudgetOptimizerBenchmark {
+
+	private static final double ROUTE_LENGTH = 8_000;
+	private static final double RADIUS = 30;
+	private static final int MAX_WAYPOINTS = 45;
+	private static final int[] FACILITY_COUNTS = {1_000, 2_500, 5_000, 10_000};
+	private static final double[] BUDGETS = {300, 1_000, 3_000};
+	private static final int WARMUP_RUNS = 200;
+	private static final int MEASURED_RUNS = 100;
+
+	@Test
+	void optimizeTime() {
+		Random random = new Random(24L);
+		for (int count : FACILITY_COUNTS) {
+			List<CorridorFacility> facilities = randomFacilities(random, count);
+			for (double budget : BUDGETS) {
+				int picks = 0;
+				for (int i = 0; i < WARMUP_RUNS; i++) {
+					picks += run(facilities, budget).size();
+				}
+				long start = System.nanoTime();
+				for (int i = 0; i < MEASURED_RUNS; i++) {
+					picks += run(facilities, budget).size();
+				}
+				long elapsed = System.nanoTime() - start;
+				assertTrue(picks > 0);
+
+				System.out.printf("%,6d facilities, budget %,5.0fm: %.2f ms/op, %d waypoints%n", count, budget,
+					elapsed / 1_000_000.0 / MEASURED_RUNS, run(facilities, budget).size());
+			}
+		}
+	}
+
+	private static List<FacilityPoint> run(List<CorridorFacility> facilities, double budget) {
+		return new DetourBudgetOptimizer(facilities, ROUTE_LENGTH, RADIUS)
+			.optimize(budget, MAX_WAYPOINTS, Long.MAX_VALUE / 2);
+	}
+
+	private static List<CorridorFacility> randomFacilities(Random random, int count) {
+		List<CorridorFacility> facilities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			facilities.add(new CorridorFacility(new FacilityPoint(i + 1, SafetyFacilityType.CCTV, 37.5, 127.0),
+				random.nextDouble() * ROUTE_LENGTH, RADIUS + random.nextDouble() * (110 - RADIUS)));
+		}
+		facilities.sort(Comparator.comparingDouble(CorridorFacility::distanceAlong));
+		return facilities;
+	}
+}
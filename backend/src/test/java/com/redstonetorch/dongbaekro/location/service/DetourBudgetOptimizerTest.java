@@ -0,0 +1,143 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.spatial.CorridorFacility;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+
+class DetourBudgetOptimizerTest {
+
+	private static final double ROUTE_LENGTH = 8_000;
+	private static final double RADIUS = 30;
+	private static final long NO_TIME_LIMIT = Long.MAX_VALUE / 2;
+
+	@Test
+	void picksFacilitiesAlongTheRouteWithinBudget() {
+		// A, B는 경로에서 40m, C는 200m 떨어져 있음
+		// A를 고르면 B는 같은 offset을 따라 이어지므로 추가 거리 0, C는 B 다음에 끼워 넣으면 |200-40| + 200 - 40 = 320
+		CorridorFacility a = facility(1, 100, 40);
+		CorridorFacility b = facility(2, 500, 40);
+		CorridorFacility c = facility(3, 520, 200);
+		List<CorridorFacility> facilities = List.of(a, b, c);
+
+		DetourBudgetOptimizer optimizer = new DetourBudgetOptimizer(facilities, 1_000, RADIUS);
+		assertEquals(List.of(a.point(), b.point()), optimizer.optimize(100, 45, NO_TIME_LIMIT));
+		assertEquals(80.0, optimizer.spentMeters(), 1e-9);
+
+		optimizer = new DetourBudgetOptimizer(facilities, 1_000, RADIUS);
+		assertEquals(List.of(a.point(), b.point(), c.point()), optimizer.optimize(400, 45, NO_TIME_LIMIT));
+		assertEquals(400.0, optimizer.spentMeters(), 1e-9);
+	}
+
+	@Test
+	void zeroBudgetPicksNothing() {
+		DetourBudgetOptimizer optimizer = new DetourBudgetOptimizer(randomFacilities(new Random(1L), 500, 0),
+			ROUTE_LENGTH, RADIUS);
+
+		assertTrue(optimizer.optimize(0, 45, NO_TIME_LIMIT).isEmpty());
+		assertFalse(optimizer.deadlineReached());
+	}
+
+	@Test
+	void estimatedDetourStaysWithinBudgetAndOrderFollowsRoute() {
+		Random random = new Random(24L);
+		for (int round = 0; round < 50; round++) {
+			List<CorridorFacility> facilities = randomFacilities(random, 200 + random.nextInt(3_000), 0);
+			double budget = random.nextDouble() * 2_000;
+			int maxWaypoints = 1 + random.nextInt(45);
+
+			DetourBudgetOptimizer optimizer = new DetourBudgetOptimizer(facilities, ROUTE_LENGTH, RADIUS);
+			List<FacilityPoint> waypoints = optimizer.optimize(budget, maxWaypoints, NO_TIME_LIMIT);
+
+			assertTrue(waypoints.size() <= maxWaypoints);
+			assertTrue(optimizer.spentMeters() <= budget + 1e-9);
+			// 선택 결과만으로 다시 계산한 추정 추가 거리도 같은 값이어야 한다.
+			assertEquals(optimizer.spentMeters(), estimatedDetour(facilities, waypoints), 1e-6);
+			assertAlongOrder(facilities, waypoints);
+		}
+	}
+
+	@Test
+	void timeLimitReturnsPartialPicks() {
+		// 원래 경로를 이미 덮는 시설이 없어 선택이 오래 이어지도록 모두 반경 밖에 둔다.
+		List<CorridorFacility> facilities = randomFacilities(new Random(7L), 20_000, RADIUS);
+		List<FacilityPoint> complete = new DetourBudgetOptimizer(facilities, ROUTE_LENGTH, RADIUS)
+			.optimize(Double.MAX_VALUE, Integer.MAX_VALUE, NO_TIME_LIMIT);
+
+		// 초기 계산은 끝나고 선택 도중에 시간이 다 되는 제한을 찾을 때까지 늘려 본다.
+		boolean partialFound = false;
+		for (long limit = 10_000; limit < 10_000_000_000L && !partialFound; limit *= 2) {
+			DetourBudgetOptimizer optimizer = new DetourBudgetOptimizer(facilities, ROUTE_LENGTH, RADIUS);
+			List<FacilityPoint> partial = optimizer.optimize(Double.MAX_VALUE, Integer.MAX_VALUE, limit);
+			if (!optimizer.deadlineReached()) {
+				assertEquals(complete, partial);
+				break;
+			}
+			if (partial.isEmpty()) {
+				continue;
+			}
+			partialFound = true;
+			// 탐욕 선택은 결정적이므로 중간 결과는 전체 결과의 일부이고, 순서와 추정 거리도 유지된다.
+			assertTrue(partial.size() < complete.size());
+			assertTrue(complete.containsAll(partial));
+			assertAlongOrder(facilities, partial);
+			assertEquals(optimizer.spentMeters(), estimatedDetour(facilities, partial), 1e-6);
+		}
+		assertTrue(partialFound);
+	}
+
+	// offset은 minOffset ~ 110m
+	private static List<CorridorFacility> randomFacilities(Random random, int count, double minOffset) {
+		List<CorridorFacility> facilities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			facilities.add(facility(i + 1, random.nextDouble() * ROUTE_LENGTH,
+				minOffset + random.nextDouble() * (110 - minOffset)));
+		}
+		facilities.sort(Comparator.comparingDouble(CorridorFacility::distanceAlong));
+		return facilities;
+	}
+
+	private static CorridorFacility facility(long id, double distanceAlong, double offset) {
+		return new CorridorFacility(new FacilityPoint(id, SafetyFacilityType.CCTV, 37.5, 127.0), distanceAlong,
+			offset);
+	}
+
+	// 출발지(offset 0) -> 경유지들 -> 목적지(offset 0)의 offset 방향 이동 합 (along 방향 이동은 경로 길이와 같음)
+	private static double estimatedDetour(List<CorridorFacility> facilities, List<FacilityPoint> waypoints) {
+		Map<Long, CorridorFacility> byId = byId(facilities);
+		double detour = 0;
+		double previousOffset = 0;
+		for (FacilityPoint waypoint : waypoints) {
+			double offset = byId.get(waypoint.id()).offset();
+			detour += Math.abs(offset - previousOffset);
+			previousOffset = offset;
+		}
+		return detour + previousOffset;
+	}
+
+	private static void assertAlongOrder(List<CorridorFacility> facilities, List<FacilityPoint> waypoints) {
+		Map<Long, CorridorFacility> byId = byId(facilities);
+		for (int i = 1; i < waypoints.size(); i++) {
+			assertTrue(byId.get(waypoints.get(i - 1).id()).distanceAlong()
+				<= byId.get(waypoints.get(i).id()).distanceAlong());
+		}
+	}
+
+	private static Map<Long, CorridorFacility> byId(List<CorridorFacility> facilities) {
+		Map<Long, CorridorFacility> byId = new HashMap<>();
+		for (CorridorFacility facility : facilities) {
+			byId.put(facility.point().id(), facility);
+		}
+		return byId;
+	}
+}
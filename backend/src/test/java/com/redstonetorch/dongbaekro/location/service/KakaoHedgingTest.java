@@ -0,0 +1,259 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.redstonetorch.dongbaekro.config.RestTemplateConfig;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 첫 번째 호출만 느리게 응답하는 로컬 HTTP 서버로 헤지 동작 확인
+class KakaoHedgingTest {
+
+	private static final long SLOW_RESPONSE_MILLIS = 2_000;
+	private static final Duration HEDGE_DELAY = Duration.ofMillis(100);
+
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger attempts = new AtomicInteger();
+	private volatile int slowAttempt = 1;
+	private final AtomicBoolean callInterrupted = new AtomicBoolean();
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private ExecutorService serverThreads;
+	private ExecutorService hedgeThreads;
+	private HttpServer server;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		serverThreads = Executors.newCachedThreadPool();
+		hedgeThreads = Executors.newCachedThreadPool();
+		meterRegistry = new SimpleMeterRegistry();
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(serverThreads);
+		server.createContext("/", exchange -> {
+			requests.incrementAndGet();
+			boolean slow = ("attempt=" + slowAttempt).equals(exchange.getRequestURI().getQuery());
+			try {
+				if (slow) {
+					Thread.sleep(SLOW_RESPONSE_MILLIS);
+				}
+				byte[] body = (slow ? "slow" : "fast").getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			} catch (InterruptedException | IOException e) {
+				exchange.close();
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop(0);
+		serverThreads.shutdownNow();
+		hedgeThreads.shutdownNow();
+	}
+
+	@Test
+	void slowPrimaryIsHedgedAndFastResponseWins() throws InterruptedException {
+		KakaoHedging hedging = hedging(resilience(10));
+
+		long start = System.nanoTime();
+		String body = hedging.execute(call());
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		assertEquals("fast", body);
+		assertTrue(elapsedMillis < SLOW_RESPONSE_MILLIS / 2, "took " + elapsedMillis + "ms");
+		assertEquals(2, requests.get());
+		assertEquals(1.0, meterRegistry.get("kakao.hedge.fired").counter().count());
+		// 승리 집계와 늦은 기본 요청 취소는 응답을 넘긴 직후 헤지 스레드에서 처리
+		assertTrue(eventually(() -> meterRegistry.get("kakao.hedge.won").counter().count() == 1.0));
+		assertTrue(eventually(callInterrupted::get));
+	}
+
+	@Test
+	void fastPrimaryIsNotHedged() {
+		slowAttempt = 0;
+		KakaoHedging hedging = hedging(resilience(10));
+
+		assertEquals("fast", hedging.execute(call()));
+		assertEquals(1, requests.get());
+		assertEquals(0.0, meterRegistry.get("kakao.hedge.fired").counter().count());
+	}
+
+	@Test
+	void hedgeNeedsBulkheadPermit() {
+		KakaoResilience resilience = resilience(2);
+		KakaoHedging hedging = hedging(resilience);
+		// 다른 호출이 한 자리, 기본 요청이 나머지 한 자리를 사용
+		assertTrue(resilience.tryAcquirePermit());
+		try {
+			assertEquals("slow", hedging.execute(call()));
+			assertEquals(1, requests.get());
+			assertEquals(0.0, meterRegistry.get("kakao.hedge.fired").counter().count());
+		} finally {
+			resilience.releasePermit();
+		}
+	}
+
+	@Test
+	void hedgeReleasesBulkheadPermitWhenFinished() throws InterruptedException {
+		KakaoResilience resilience = resilience(2);
+		KakaoHedging hedging = hedging(resilience);
+
+		assertEquals("fast", hedging.execute(call()));
+		assertTrue(eventually(() -> permitsAvailable(resilience, 2)));
+	}
+
+	// 헤지에 진 기본 요청은 취소를 무시하고 계속 실행되는 동안 자기 벌크헤드 자리를 유지한다.
+	@Test
+	void loserKeepsItsPermitUntilFinished() throws InterruptedException {
+		KakaoResilience resilience = resilience(2);
+		KakaoHedging hedging = hedging(resilience);
+		CountDownLatch primaryStarted = new CountDownLatch(1);
+		AtomicBoolean releasePrimary = new AtomicBoolean();
+		AtomicInteger calls = new AtomicInteger();
+
+		String body = hedging.execute(() -> {
+			if (calls.incrementAndGet() == 1) {
+				primaryStarted.countDown();
+				// 인터럽트에 반응하지 않는 호출
+				while (!releasePrimary.get()) {
+					Thread.onSpinWait();
+				}
+				return "slow";
+			}
+			return "fast";
+		});
+
+		assertEquals("fast", body);
+		assertTrue(primaryStarted.await(1, TimeUnit.SECONDS));
+		// 헤지 요청의 자리는 돌려받았지만 기본 요청은 아직 자리를 차지
+		assertTrue(eventually(() -> permitsAvailable(resilience, 1)));
+		assertFalse(permitsAvailable(resilience, 2));
+
+		releasePrimary.set(true);
+		assertTrue(eventually(() -> permitsAvailable(resilience, 2)));
+	}
+
+	// RestTemplate + Apache 요청 팩토리: 진 기본 요청은 소켓 응답 대기 중에 커넥션이 끊겨 바로 끝나고 자리를 반환한다.
+	@Test
+	void apacheLoserIsAbortedThroughRestTemplate() throws InterruptedException {
+		RestTemplate restTemplate = new RestTemplate(apacheRequestFactory());
+		KakaoResilience resilience = resilience(2);
+		KakaoHedging hedging = hedging(resilience);
+		String baseUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/?attempt=";
+		CountDownLatch primaryFailed = new CountDownLatch(1);
+
+		String body = hedging.execute(() -> {
+			int attempt = attempts.incrementAndGet();
+			try {
+				return restTemplate.getForObject(URI.create(baseUri + attempt), String.class);
+			} catch (ResourceAccessException e) {
+				if (attempt == 1) {
+					primaryFailed.countDown();
+				}
+				throw e;
+			}
+		});
+
+		assertEquals("fast", body);
+		assertTrue(primaryFailed.await(SLOW_RESPONSE_MILLIS / 4, TimeUnit.MILLISECONDS));
+		assertTrue(eventually(() -> permitsAvailable(resilience, 2)));
+		assertEquals(2, requests.get());
+	}
+
+	private Supplier<String> call() {
+		String baseUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/?attempt=";
+		return () -> {
+			URI uri = URI.create(baseUri + attempts.incrementAndGet());
+			try {
+				return httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString())
+					.body();
+			} catch (InterruptedException e) {
+				callInterrupted.set(true);
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+	private KakaoHedging hedging(KakaoResilience resilience) {
+		KakaoRateLimiter rateLimiter = new KakaoRateLimiter(meterRegistry, false, 50, 50, 0.2,
+			Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMillis(100));
+		return new KakaoHedging(meterRegistry, rateLimiter, resilience, hedgeThreads, true, 0.95,
+			HEDGE_DELAY, HEDGE_DELAY, 0.05);
+	}
+
+	// 응답 대기 시간(10초)이 느린 응답보다 길어 취소 없이는 기본 요청이 끝나지 않는 Apache 요청 팩토리
+	private ClientHttpRequestFactory apacheRequestFactory() {
+		RestTemplateConfig config = new RestTemplateConfig();
+		ReflectionTestUtils.setField(config, "clientType", "apache");
+		ReflectionTestUtils.setField(config, "maxConnectionsTotal", 10);
+		ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", 10);
+		ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(config, "readTimeout", Duration.ofSeconds(10));
+		ReflectionTestUtils.setField(config, "connectionRequestTimeout", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(config, "keepAlive", Duration.ofSeconds(30));
+		return config.clientHttpRequestFactory(meterRegistry);
+	}
+
+	// 남은 자리를 available개 잡을 수 있는지 확인하고 바로 돌려준다.
+	private static boolean permitsAvailable(KakaoResilience resilience, int available) {
+		int acquired = 0;
+		while (acquired < available && resilience.tryAcquirePermit()) {
+			acquired++;
+		}
+		for (int i = 0; i < acquired; i++) {
+			resilience.releasePermit();
+		}
+		return acquired == available;
+	}
+
+	private KakaoResilience resilience(int maxConcurrentCalls) {
+		return new KakaoResilience(meterRegistry, Duration.ofSeconds(30), 20, 50, Duration.ofSeconds(2), 80,
+			Duration.ofSeconds(15), maxConcurrentCalls, Duration.ZERO, 2, Duration.ofMillis(100), 0.1);
+	}
+
+	private boolean eventually(BooleanSupplier condition) throws InterruptedException {
+		for (int i = 0; i < 200; i++) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.sleep(10);
+		}
+		return false;
+	}
+}
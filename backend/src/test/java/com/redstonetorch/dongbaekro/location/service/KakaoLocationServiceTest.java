@@ -0,0 +1,39 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class KakaoLocationServiceTest {
+
+	// 카카오 executor(스레드 풀 대기열 또는 가상 스레드 동시 실행 한도)가 가득 차면 호출하지 않고 혼잡(503)으로 응답
+	@Test
+	void rejectedExecutionIsBusy() {
+		Executor rejecting = command -> {
+			throw new RejectedExecutionException("full");
+		};
+		KakaoLocationService service = new KakaoLocationService(null, null, null, null, null, null,
+			new SimpleMeterRegistry(), rejecting, "test", 0);
+
+		CompletableFuture<KakaoWalkingDirectionsResponse> route = service.getWalkingDirectionsWithWaypointsAsync(
+			WalkingWaypointsRequest.create(126.978, 37.5665, 126.99, 37.57, null));
+
+		ExecutionException e = assertThrows(ExecutionException.class, route::get);
+		CustomException cause = assertInstanceOf(CustomException.class, e.getCause());
+		assertEquals(ErrorCode.LOCATION_KAKAO_API_BUSY, cause.getErrorCode());
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, cause.getErrorCode().getStatus());
+	}
+}
@@ -0,0 +1,131 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// MockClock을 쓴 레지스트리로 시간을 직접 진행시켜 토큰 적립, 우선순위, 대기 마감을 확인
+// 초당 50개(20ms에 1개), 최대 50개, BACKGROUND 예비분 20%(10개), 최대 대기 CRITICAL 2s / INTERACTIVE 1s / BACKGROUND 100ms
+class KakaoRateLimiterTest {
+
+	private final MockClock clock = new MockClock();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+	private final KakaoRateLimiter rateLimiter = new KakaoRateLimiter(meterRegistry, true, 50, 50, 0.2,
+		Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMillis(100));
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutdown() {
+		callers.shutdownNow();
+	}
+
+	// 높은 우선순위가 기다리는 동안 새로 쌓인 토큰은 낮은 우선순위에게 가지 않는다.
+	@Test
+	void lowerLaneWaitsWhileHigherLaneIsWaiting() throws Exception {
+		drain();
+		Future<?> critical = callers.submit(() -> rateLimiter.acquire(KakaoPriority.CRITICAL));
+		awaitQueue("critical", 1);
+		Future<?> interactive = callers.submit(() -> rateLimiter.acquire(KakaoPriority.INTERACTIVE));
+		awaitQueue("interactive", 1);
+
+		// 토큰 1.5개: CRITICAL이 하나를 가져가고 남은 0.5개로는 INTERACTIVE가 받을 수 없다.
+		// CRITICAL이 아직 깨어나기 전이어도 INTERACTIVE는 바로 받지 못한다.
+		clock.add(30, TimeUnit.MILLISECONDS);
+		assertFalse(rateLimiter.tryAcquire(KakaoPriority.INTERACTIVE));
+		critical.get(5, TimeUnit.SECONDS);
+		assertFalse(interactive.isDone());
+		assertEquals(1.0, queue("interactive"));
+		assertEquals(0.5, tokens(), 1e-9);
+
+		clock.add(20, TimeUnit.MILLISECONDS);
+		interactive.get(5, TimeUnit.SECONDS);
+		assertEquals(0.0, queue("interactive"));
+		assertEquals(0.0, rejected("critical"));
+		// 바로 받지 못한 tryAcquire 1회만 거절
+		assertEquals(1.0, rejected("interactive"));
+	}
+
+	// BACKGROUND는 버킷의 20%(10개)를 남기고 멈추며, 남은 토큰은 INTERACTIVE/CRITICAL이 쓸 수 있다.
+	@Test
+	void backgroundLeavesReserveForInteractive() {
+		for (int i = 0; i < 40; i++) {
+			assertTrue(rateLimiter.tryAcquire(KakaoPriority.BACKGROUND), "background " + i);
+		}
+		assertFalse(rateLimiter.tryAcquire(KakaoPriority.BACKGROUND));
+		assertEquals(10.0, tokens(), 1e-9);
+
+		for (int i = 0; i < 10; i++) {
+			assertTrue(rateLimiter.tryAcquire(KakaoPriority.INTERACTIVE), "interactive " + i);
+		}
+		assertFalse(rateLimiter.tryAcquire(KakaoPriority.CRITICAL));
+		assertEquals(1.0, rejected("background"));
+		assertEquals(1.0, rejected("critical"));
+	}
+
+	// 최대 대기 시간(BACKGROUND 100ms) 안에 토큰을 얻지 못하면 429로 거절
+	@Test
+	void boundedWaitIsRejectedWithTooManyRequests() throws Exception {
+		drain();
+		Future<?> background = callers.submit(() -> rateLimiter.acquire(KakaoPriority.BACKGROUND));
+		awaitQueue("background", 1);
+
+		// 150ms 동안 쌓인 7.5개로는 예비분(10개) 위의 토큰이 없다.
+		clock.add(150, TimeUnit.MILLISECONDS);
+		ExecutionException e = assertThrows(ExecutionException.class, () -> background.get(5, TimeUnit.SECONDS));
+		CustomException cause = assertInstanceOf(CustomException.class, e.getCause());
+		assertEquals(ErrorCode.LOCATION_KAKAO_RATE_LIMITED, cause.getErrorCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, cause.getErrorCode().getStatus());
+
+		assertEquals(1.0, rejected("background"));
+		assertEquals(0.0, queue("background"));
+		assertEquals(150.0, meterRegistry.get("kakao.ratelimit.wait").tag("lane", "background").timer()
+			.totalTime(TimeUnit.MILLISECONDS), 1e-6);
+		// 거절된 호출은 토큰을 쓰지 않는다.
+		assertEquals(7.5, tokens(), 1e-9);
+	}
+
+	// 시간이 멈춘 상태에서 버킷을 비운다.
+	private void drain() {
+		for (int i = 0; i < 50; i++) {
+			assertTrue(rateLimiter.tryAcquire(KakaoPriority.CRITICAL));
+		}
+		assertEquals(0.0, tokens(), 1e-9);
+	}
+
+	// 호출 스레드가 대기열에 들어갈 때까지 기다린다.
+	private void awaitQueue(String lane, int size) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (queue(lane) != size) {
+			assertTrue(System.nanoTime() < deadline, lane + " queue " + queue(lane));
+			Thread.sleep(1);
+		}
+	}
+
+	private double queue(String lane) {
+		return meterRegistry.get("kakao.ratelimit.queue").tag("lane", lane).gauge().value();
+	}
+
+	private double tokens() {
+		return meterRegistry.get("kakao.ratelimit.tokens").gauge().value();
+	}
+
+	private double rejected(String lane) {
+		return meterRegistry.get("kakao.ratelimit.rejected").tag("lane", lane).counter().count();
+	}
+}
@@ -0,0 +1,207 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 호출 대신 결과를 정하는 Supplier로 서킷 브레이커, 재시도 예산, 벌크헤드 거절의 오류 변환 확인
+class KakaoResilienceTest {
+
+	private static final Runnable NO_WAIT = () -> {
+	};
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	@Test
+	void circuitOpensAfterFailureThreshold() {
+		// 최소 4회 호출, 실패율 50% 이상이면 차단 (재시도 없음)
+		KakaoResilience resilience = resilience(4, 1, 1, 0.0);
+
+		execute(resilience, succeeding());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(ErrorCode.LOCATION_KAKAO_API_ERROR, execute(resilience, failing()));
+		}
+		int attemptsBeforeOpen = attempts.get();
+
+		// 차단된 뒤에는 호출하지 않고 503
+		assertEquals(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE, execute(resilience, succeeding()));
+		assertEquals(attemptsBeforeOpen, attempts.get());
+		assertEquals(1.0, rejected("circuit_open"));
+	}
+
+	// 요청 문제(4xx)는 카카오 장애가 아니므로 실패율에 포함하지 않는다.
+	@Test
+	void clientErrorsDoNotOpenCircuit() {
+		KakaoResilience resilience = resilience(4, 1, 1, 0.0);
+
+		for (int i = 0; i < 10; i++) {
+			execute(resilience, () -> {
+				attempts.incrementAndGet();
+				throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+			});
+		}
+		execute(resilience, succeeding());
+		assertEquals(11, attempts.get());
+		assertEquals(0.0, rejected("circuit_open"));
+	}
+
+	// 예산은 최대 10회에서 시작해 호출마다 0.1회씩 적립되므로, 계속 실패해도 재시도는 10 + 0.1 × 호출 수를 넘지 않는다.
+	@Test
+	void retriesStayWithinBudget() {
+		KakaoResilience resilience = resilience(1_000, 1, 3, 0.1);
+		int calls = 40;
+
+		for (int i = 0; i < calls; i++) {
+			assertEquals(ErrorCode.LOCATION_KAKAO_API_ERROR, execute(resilience, failing()));
+		}
+
+		int retries = attempts.get() - calls;
+		assertTrue(retries >= 10, "retries " + retries);
+		assertTrue(retries <= 10 + Math.ceil(calls * 0.1), "retries " + retries);
+		assertTrue(meterRegistry.get("kakao.resilience.retry.budget.exhausted").counter().count() > 0);
+
+		// 예산이 바닥난 뒤에는 적립된 만큼만: 50회 호출에 재시도 정확히 5회
+		attempts.set(0);
+		for (int i = 0; i < 50; i++) {
+			execute(resilience, failing());
+		}
+		assertEquals(55, attempts.get());
+	}
+
+	@Test
+	void clientErrorsAreNotRetried() {
+		KakaoResilience resilience = resilience(1_000, 1, 3, 0.1);
+
+		assertEquals(ErrorCode.LOCATION_KAKAO_API_ERROR, execute(resilience, () -> {
+			attempts.incrementAndGet();
+			throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+		}));
+		assertEquals(1, attempts.get());
+
+		// 5xx는 재시도
+		attempts.set(0);
+		execute(resilience, () -> {
+			attempts.incrementAndGet();
+			throw HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null);
+		});
+		assertEquals(3, attempts.get());
+	}
+
+	// 동시 호출 한도(1)를 다른 호출이 잡고 있으면 기다리지 않고 혼잡(503)으로 거절
+	@Test
+	void bulkheadRejectionIsBusy() throws Exception {
+		KakaoResilience resilience = resilience(1_000, 1, 1, 0.0);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService thread = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> holder = thread.submit(() -> resilience.execute(NO_WAIT, () -> resilience.withPermit(() -> {
+				holding.countDown();
+				await(release);
+				return "route";
+			})));
+			assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+			ErrorCode errorCode = execute(resilience, succeeding());
+			assertEquals(ErrorCode.LOCATION_KAKAO_API_BUSY, errorCode);
+			assertEquals(HttpStatus.SERVICE_UNAVAILABLE, errorCode.getStatus());
+			assertEquals(0, attempts.get());
+			assertEquals(1.0, rejected("bulkhead_full"));
+			// 헤지 호출도 같은 한도를 사용
+			assertFalse(resilience.tryAcquirePermit());
+
+			release.countDown();
+			assertEquals("route", holder.get(5, TimeUnit.SECONDS));
+			assertTrue(resilience.tryAcquirePermit());
+			resilience.releasePermit();
+		} finally {
+			thread.shutdownNow();
+		}
+	}
+
+	// beforeAttempt(호출 한도 대기)에서 난 CustomException은 그대로 전달되고 서킷 브레이커 실패로 세지 않는다.
+	@Test
+	void rateLimitRejectionPassesThrough() {
+		KakaoResilience resilience = resilience(2, 1, 1, 0.0);
+		Runnable rateLimited = () -> {
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_RATE_LIMITED);
+		};
+
+		for (int i = 0; i < 5; i++) {
+			CustomException e = assertThrows(CustomException.class,
+				() -> resilience.execute(rateLimited, () -> resilience.withPermit(succeeding())));
+			assertEquals(ErrorCode.LOCATION_KAKAO_RATE_LIMITED, e.getErrorCode());
+		}
+		assertEquals(0, attempts.get());
+
+		// 거절 5회 뒤에도 실패 1회 + 성공 1회로는 차단되지 않는다.
+		assertEquals(ErrorCode.LOCATION_KAKAO_API_ERROR, execute(resilience, failing()));
+		assertNull(execute(resilience, succeeding()));
+		assertEquals(2, attempts.get());
+		assertEquals(0.0, rejected("circuit_open"));
+	}
+
+	// 서킷 브레이커 창 60초, 벌크헤드 대기 0, 재시도 백오프 1ms
+	private KakaoResilience resilience(int minimumCalls, int maxConcurrentCalls, int maxAttempts,
+		double retryBudgetRatio) {
+		return new KakaoResilience(meterRegistry, Duration.ofSeconds(60), minimumCalls, 50, Duration.ofSeconds(10),
+			100, Duration.ofSeconds(60), maxConcurrentCalls, Duration.ZERO, maxAttempts, Duration.ofMillis(1),
+			retryBudgetRatio);
+	}
+
+	// HTTP 시도처럼 벌크헤드 자리를 잡고 호출, 실패하면 변환된 ErrorCode, 성공하면 null
+	private static ErrorCode execute(KakaoResilience resilience, Supplier<String> call) {
+		try {
+			resilience.execute(NO_WAIT, () -> resilience.withPermit(call));
+			return null;
+		} catch (CustomException e) {
+			return e.getErrorCode();
+		}
+	}
+
+	private Supplier<String> succeeding() {
+		return () -> {
+			attempts.incrementAndGet();
+			return "route";
+		};
+	}
+
+	private Supplier<String> failing() {
+		return () -> {
+			attempts.incrementAndGet();
+			throw new ResourceAccessException("Read timed out");
+		};
+	}
+
+	private double rejected(String reason) {
+		return meterRegistry.get("kakao.resilience.rejected").tag("reason", reason).counter().count();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
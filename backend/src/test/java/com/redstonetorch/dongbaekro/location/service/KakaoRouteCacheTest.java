@@ -0,0 +1,151 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class KakaoRouteCacheTest {
+
+	private static final double GRID_METERS = 10;
+	private static final double GRID_DEGREES = GeoDistance.metersToLatitudeDegrees(GRID_METERS);
+	// 격자 칸의 중심 좌표 (칸 경계에서 떨어져 있어 ±0.3칸 이동해도 같은 칸)
+	private static final double LONGITUDE = (Math.floor(127.0 / GRID_DEGREES) + 0.5) * GRID_DEGREES;
+	private static final double LATITUDE = (Math.floor(37.5 / GRID_DEGREES) + 0.5) * GRID_DEGREES;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void coordinatesInSameGridCellShareEntry() {
+		KakaoRouteCache cache = cache(Duration.ofHours(1));
+		KakaoWalkingDirectionsResponse first = cache.get(request(0.0), () -> load(0));
+
+		// 같은 칸 안에서 0.3칸(약 3m) 떨어진 좌표
+		assertSame(first, cache.get(request(0.3), () -> load(0)));
+		assertSame(first, cache.get(request(-0.3), () -> load(0)));
+		assertEquals(1, loads.get());
+
+		// 옆 칸은 다른 키
+		assertNotSame(first, cache.get(request(1.0), () -> load(0)));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void concurrentMissesRunLoaderOnce() throws Exception {
+		KakaoRouteCache cache = cache(Duration.ofHours(1));
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+		int callers = 8;
+		ExecutorService threads = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<KakaoWalkingDirectionsResponse>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(threads.submit(() -> cache.get(request(0.0), () -> {
+					loaderStarted.countDown();
+					await(releaseLoader);
+					return load(0);
+				})));
+			}
+			assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+			// 나머지 호출자가 먼저 등록된 future에서 기다리도록 잠시 둔 뒤 응답
+			Thread.sleep(100);
+			releaseLoader.countDown();
+
+			KakaoWalkingDirectionsResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<KakaoWalkingDirectionsResponse> result : results) {
+				assertSame(first, result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, loads.get());
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	@Test
+	void unsuccessfulResultIsNotCached() {
+		KakaoRouteCache cache = cache(Duration.ofHours(1));
+
+		KakaoWalkingDirectionsResponse noRoute = cache.get(request(0.0), () -> load(1));
+		assertEquals(1, noRoute.routes().get(0).resultCode());
+		assertTrue(cache.getStale(request(0.0)).isEmpty());
+
+		// 다음 조회는 다시 호출하고, 성공한 응답부터 저장
+		KakaoWalkingDirectionsResponse found = cache.get(request(0.0), () -> load(0));
+		assertEquals(0, found.routes().get(0).resultCode());
+		assertSame(found, cache.get(request(0.0), () -> load(0)));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void failedLoadIsNotCached() {
+		KakaoRouteCache cache = cache(Duration.ofHours(1));
+
+		CustomException error = assertThrows(CustomException.class, () -> cache.get(request(0.0), () -> {
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE);
+		}));
+		assertEquals(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE, error.getErrorCode());
+
+		cache.get(request(0.0), () -> load(0));
+		assertEquals(1, loads.get());
+	}
+
+	// 만료된 뒤 다시 조회하다 실패해도 마지막 성공 응답은 stale 캐시에 남는다.
+	@Test
+	void expiredResponseRemainsAvailableAsStale() throws InterruptedException {
+		KakaoRouteCache cache = cache(Duration.ofMillis(50));
+		KakaoWalkingDirectionsResponse first = cache.get(request(0.0), () -> load(0));
+		Thread.sleep(150);
+
+		assertThrows(CustomException.class, () -> cache.get(request(0.0), () -> {
+			throw new CustomException(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE);
+		}));
+		assertSame(first, cache.getStale(request(0.3)).orElseThrow());
+
+		// 실패 응답(result_code != 0)은 stale 응답을 덮어쓰지 않는다.
+		cache.get(request(0.0), () -> load(1));
+		assertSame(first, cache.getStale(request(0.0)).orElseThrow());
+	}
+
+	private KakaoRouteCache cache(Duration ttl) {
+		return new KakaoRouteCache(new SimpleMeterRegistry(), GRID_METERS, 1000, ttl, Duration.ofDays(1));
+	}
+
+	// 출발지를 격자 칸 크기의 cells배만큼 동쪽으로 옮긴 요청
+	private static WalkingWaypointsRequest request(double cells) {
+		return WalkingWaypointsRequest.create(LONGITUDE + cells * GRID_DEGREES, LATITUDE,
+			LONGITUDE + 0.01, LATITUDE + 0.01, null);
+	}
+
+	private KakaoWalkingDirectionsResponse load(int resultCode) {
+		int load = loads.incrementAndGet();
+		return new KakaoWalkingDirectionsResponse("load-" + load, List.of(new KakaoWalkingDirectionsResponse.Route(
+			resultCode, resultCode == 0 ? "길찾기 성공" : "경로를 찾을 수 없습니다.",
+			new KakaoWalkingDirectionsResponse.Summary(1500, 1300), List.of())));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
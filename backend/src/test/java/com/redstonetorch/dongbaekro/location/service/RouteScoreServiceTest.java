@@ -0,0 +1,86 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.RouteScoreRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.RouteScoreResponse;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+class RouteScoreServiceTest {
+
+	// 위도 37.5에서 동쪽으로 약 176m
+	private static final double[] VERTEXES = {127.0, 37.5, 127.002, 37.5};
+
+	private final RouteScoreService routeScoreService = new RouteScoreService(indexWith(
+		new FacilityPoint(1, SafetyFacilityType.CCTV, 37.5, 127.001)));
+
+	@Test
+	void scoresVertexesAndEncodedPolyline() {
+		List<RouteScoreResponse> scores = routeScoreService.scoreRoutes(new RouteScoreRequest(List.of(
+			new RouteScoreRequest.RouteInput(VERTEXES, null, null),
+			// 같은 경로를 precision 5로 인코딩
+			new RouteScoreRequest.RouteInput(null, "_f{cF_ucfW?oK", null)
+		), 30.0));
+
+		assertEquals(2, scores.size());
+		for (int i = 0; i < scores.size(); i++) {
+			RouteScoreResponse score = scores.get(i);
+			assertEquals(i, score.index());
+			assertEquals(176, score.distance());
+			// 중간 시설 반경 30m가 경로 60m를 덮음
+			assertEquals(34.0, score.coveragePercent(), 0.1);
+			assertEquals(1, score.types().get(SafetyFacilityType.CCTV.ordinal()).facilityCount());
+		}
+	}
+
+	@Test
+	void rejectsBothVertexesAndEncodedPolyline() {
+		assertInvalid(new RouteScoreRequest.RouteInput(VERTEXES, "_f{cF_ucfW?oK", null));
+	}
+
+	@Test
+	void rejectsNeitherVertexesNorEncodedPolyline() {
+		assertInvalid(new RouteScoreRequest.RouteInput(null, null, null));
+		assertInvalid(new RouteScoreRequest.RouteInput(null, "  ", null));
+	}
+
+	@Test
+	void rejectsOddLengthVertexes() {
+		assertInvalid(new RouteScoreRequest.RouteInput(new double[] {127.0, 37.5, 127.002}, null, null));
+	}
+
+	@Test
+	void rejectsMalformedEncodedPolyline() {
+		assertInvalid(new RouteScoreRequest.RouteInput(null, "_f{cF_ucfW?", null));
+	}
+
+	@Test
+	void rejectsSinglePointAndOutOfRangeCoordinates() {
+		assertInvalid(new RouteScoreRequest.RouteInput(new double[] {127.0, 37.5}, null, null));
+		assertInvalid(new RouteScoreRequest.RouteInput(new double[] {127.0, 37.5, 127.0, 91.0}, null, null));
+	}
+
+	private void assertInvalid(RouteScoreRequest.RouteInput route) {
+		CustomException exception = assertThrows(CustomException.class,
+			() -> routeScoreService.scoreRoutes(new RouteScoreRequest(List.of(route), 30.0)));
+		assertEquals(ErrorCode.LOCATION_INVALID_POLYLINE, exception.getErrorCode());
+	}
+
+	private static SafetyFacilityIndex indexWith(FacilityPoint... points) {
+		SafetyFacilityRepository repository = mock(SafetyFacilityRepository.class);
+		when(repository.findAllFacilityPoints()).thenReturn(List.of(points));
+		SafetyFacilityIndex index = new SafetyFacilityIndex(repository);
+		index.rebuild();
+		return index;
+	}
+}
@@ -0,0 +1,169 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.common.exception.CustomException;
+import com.redstonetorch.dongbaekro.common.exception.ErrorCode;
+import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SafeRouteCoalescerTest {
+
+	private static final double GRID_METERS = 10;
+	private static final double GRID_DEGREES = GeoDistance.metersToLatitudeDegrees(GRID_METERS);
+	// 격자 칸의 중심 좌표 (±0.3칸 이동해도 같은 칸)
+	private static final double LATITUDE = (Math.floor(37.5665 / GRID_DEGREES) + 0.5) * GRID_DEGREES;
+	private static final double LONGITUDE = (Math.floor(126.978 / GRID_DEGREES) + 0.5) * GRID_DEGREES;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SafeRouteCoalescer coalescer = new SafeRouteCoalescer(meterRegistry, GRID_METERS);
+	private final AtomicInteger computations = new AtomicInteger();
+
+	// 계산이 끝나기 전에 동시에 들어온 같은 요청은 계산 하나의 결과를 함께 받는다.
+	@Test
+	void concurrentIdenticalRequestsShareOneComputation() throws Exception {
+		int callers = 8;
+		CompletableFuture<SafeRouteResponse> computation = new CompletableFuture<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService threads = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<CompletableFuture<SafeRouteResponse>>> calls = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				calls.add(threads.submit(() -> {
+					await(start);
+					return coalescer.execute(request(0.0, null, null), () -> {
+						computations.incrementAndGet();
+						return computation;
+					});
+				}));
+			}
+			start.countDown();
+			List<CompletableFuture<SafeRouteResponse>> results = new ArrayList<>();
+			for (Future<CompletableFuture<SafeRouteResponse>> call : calls) {
+				results.add(call.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, computations.get());
+			assertEquals(1.0, meterRegistry.get("safe.route.coalescing.in-flight").gauge().value());
+
+			// 호출자 하나가 취소해도 공유 계산과 다른 호출자에게는 영향이 없다.
+			results.get(0).cancel(true);
+			assertFalse(computation.isCancelled());
+
+			SafeRouteResponse response = response();
+			computation.complete(response);
+			for (CompletableFuture<SafeRouteResponse> result : results.subList(1, callers)) {
+				assertSame(response, result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(callers - 1, meterRegistry.get("safe.route.coalescing.coalesced").functionCounter().count());
+			assertEquals(0.0, meterRegistry.get("safe.route.coalescing.in-flight").gauge().value());
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	@Test
+	void nearlyIdenticalRequestsShareKey() {
+		CompletableFuture<SafeRouteResponse> computation = new CompletableFuture<>();
+		List<SafetyFacilityType> types = List.of(SafetyFacilityType.CCTV, SafetyFacilityType.POLICE_SUBSTATION);
+
+		coalescer.execute(request(0.0, types, null), () -> count(computation));
+		// 같은 격자 칸 안의 좌표, 선호 타입 순서/중복만 다른 요청
+		coalescer.execute(request(0.3, List.of(SafetyFacilityType.POLICE_SUBSTATION, SafetyFacilityType.CCTV,
+			SafetyFacilityType.CCTV), null), () -> count(computation));
+		coalescer.execute(request(-0.3, types, null), () -> count(computation));
+		assertEquals(1, computations.get());
+
+		// 선호 타입 미지정(null), 빈 목록, 전체 타입 목록은 같은 요청
+		coalescer.execute(request(0.0, null, null), () -> count(computation));
+		coalescer.execute(request(0.0, List.of(), null), () -> count(computation));
+		coalescer.execute(request(0.0, List.of(SafetyFacilityType.values()), null), () -> count(computation));
+		assertEquals(2, computations.get());
+
+		// 옆 칸 좌표나 다른 추가 거리 제한은 다른 요청
+		coalescer.execute(request(1.0, null, null), () -> count(computation));
+		coalescer.execute(request(0.0, null, 300), () -> count(computation));
+		assertEquals(4, computations.get());
+
+		computation.complete(response());
+	}
+
+	// 실패한 계산은 기다리던 호출자 모두에게 전달되고 항목이 지워져 다음 요청은 다시 계산한다.
+	@Test
+	void failedComputationIsRetriedByNextCaller() throws Exception {
+		CompletableFuture<SafeRouteResponse> failing = new CompletableFuture<>();
+		CompletableFuture<SafeRouteResponse> first = coalescer.execute(request(0.0, null, null),
+			() -> count(failing));
+		CompletableFuture<SafeRouteResponse> joined = coalescer.execute(request(0.0, null, null),
+			() -> count(new CompletableFuture<>()));
+		assertEquals(1, computations.get());
+
+		failing.completeExceptionally(new CustomException(ErrorCode.LOCATION_KAKAO_API_UNAVAILABLE));
+		for (CompletableFuture<SafeRouteResponse> result : List.of(first, joined)) {
+			ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(CustomException.class, e.getCause());
+		}
+
+		SafeRouteResponse response = response();
+		CompletableFuture<SafeRouteResponse> retried = coalescer.execute(request(0.0, null, null),
+			() -> count(CompletableFuture.completedFuture(response)));
+		assertSame(response, retried.get(5, TimeUnit.SECONDS));
+		assertEquals(2, computations.get());
+	}
+
+	// 계산을 시작하는 도중(Supplier)에 던진 예외도 항목을 남기지 않는다.
+	@Test
+	void computationThrowingOnStartIsNotKept() throws Exception {
+		CompletableFuture<SafeRouteResponse> failed = coalescer.execute(request(0.0, null, null), () -> {
+			computations.incrementAndGet();
+			throw new IllegalStateException("boom");
+		});
+		ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+
+		coalescer.execute(request(0.0, null, null), () -> count(CompletableFuture.completedFuture(response())))
+			.get(5, TimeUnit.SECONDS);
+		assertEquals(2, computations.get());
+		assertEquals(0.0, meterRegistry.get("safe.route.coalescing.in-flight").gauge().value());
+	}
+
+	private CompletableFuture<SafeRouteResponse> count(CompletableFuture<SafeRouteResponse> computation) {
+		computations.incrementAndGet();
+		return computation;
+	}
+
+	// 출발지를 격자 칸 크기의 cells배만큼 북쪽으로 옮긴 요청
+	private static SafeRouteRequest request(double cells, List<SafetyFacilityType> types, Integer maxDetourMeters) {
+		return new SafeRouteRequest(LATITUDE + cells * GRID_DEGREES, LONGITUDE, LATITUDE + 0.01, LONGITUDE + 0.01,
+			types, maxDetourMeters, null);
+	}
+
+	private static SafeRouteResponse response() {
+		return new SafeRouteResponse(null, List.of(), null, null, false, null, null, List.of(), false);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package com.redstonetorch.dongbaekro.location.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.dto.request.SafeRouteRequest;
+import com.redstonetorch.dongbaekro.location.dto.request.WalkingWaypointsRequest;
+import com.redstonetorch.dongbaekro.location.dto.response.KakaoWalkingDirectionsResponse;
+import com.redstonetorch.dongbaekro.location.dto.response.SafeRouteResponse;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+import com.redstonetorch.dongbaekro.location.spatial.FacilityPoint;
+import com.redstonetorch.dongbaekro.location.spatial.GeoDistance;
+import com.redstonetorch.dongbaekro.location.spatial.SafetyFacilityIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 요청마다 응답(내용, 완료 시점, 실패)을 정하는 도보 경로 탐색 대역으로 경유지 경로 요청과 구간 연결 확인
+// 경로는 경도 127.0을 따라 북쪽으로 곧게 뻗고, 시설은 경로 50m마다 동쪽으로 조금 떨어져 있다.
+class SafeRouteServiceTest {
+
+	private static final double LATITUDE = 37.50;
+	private static final double LONGITUDE = 127.0;
+	private static final double FACILITY_SPACING_METERS = 50;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SafetyFacilityRepository repository = mock(SafetyFacilityRepository.class);
+	private final List<WalkingWaypointsRequest> requests = new CopyOnWriteArrayList<>();
+	private volatile Function<WalkingWaypointsRequest, CompletableFuture<KakaoWalkingDirectionsResponse>>
+		waypointResponder;
+
+	@Test
+	void chunkCountKeepsEachCallWithinWaypointLimit() {
+		assertEquals(1, SafeRouteService.chunkCount(1));
+		assertEquals(1, SafeRouteService.chunkCount(15));
+		assertEquals(2, SafeRouteService.chunkCount(16));
+		assertEquals(2, SafeRouteService.chunkCount(31));
+		assertEquals(3, SafeRouteService.chunkCount(32));
+		assertEquals(3, SafeRouteService.chunkCount(45));
+	}
+
+	// 16개 경유지는 두 구간으로 나눠 요청하고, 경계 경유지는 앞 구간의 목적지이자 뒤 구간의 출발지로만 쓴다.
+	@Test
+	void longRouteIsRequestedInChunksAndStitched() throws Exception {
+		SafeRouteService service = service(5_600);
+		waypointResponder = request -> CompletableFuture.completedFuture(chunkRoute(request));
+
+		SafeRouteResponse response = service.generateSafeRoute(request(5_600)).get(5, TimeUnit.SECONDS);
+
+		List<WalkingWaypointsRequest> chunks = waypointRequests();
+		assertEquals(2, chunks.size());
+		WalkingWaypointsRequest first = chunks.get(0);
+		WalkingWaypointsRequest second = chunks.get(1);
+		assertEquals(new WalkingWaypointsRequest.Coordinate(LONGITUDE, LATITUDE), first.origin());
+		assertEquals(first.destination(), second.origin());
+		assertFalse(first.waypoints().contains(first.destination()));
+		assertFalse(second.waypoints().contains(second.origin()));
+		assertTrue(first.waypoints().size() <= 15 && second.waypoints().size() <= 15);
+		// 경유지 16개 = 앞 구간 + 경계 1개 + 뒤 구간
+		assertEquals(16, first.waypoints().size() + 1 + second.waypoints().size());
+
+		assertFalse(response.degraded());
+		KakaoWalkingDirectionsResponse safeRoute = response.safeRoute();
+		var summary = safeRoute.routes().get(0).summary();
+		assertEquals(distance(first) + distance(second), summary.distance());
+		assertEquals(duration(first) + duration(second), summary.duration());
+		assertEquals(2, safeRoute.routes().get(0).sections().size());
+		// 응답의 trans_id는 첫 구간의 것
+		assertEquals(transId(first), safeRoute.transId());
+	}
+
+	// 한 구간이라도 실패하거나 경로를 찾지 못하면 경유지 경로 대신 기본 경로로 응답
+	@Test
+	void failingChunkFallsBackToOriginalRoute() throws Exception {
+		SafeRouteService service = service(5_600);
+		waypointResponder = request -> request.origin().y() == LATITUDE
+			? CompletableFuture.completedFuture(chunkRoute(request))
+			: CompletableFuture.failedFuture(new IllegalStateException("chunk failed"));
+
+		SafeRouteResponse failed = service.generateSafeRoute(request(5_600)).get(5, TimeUnit.SECONDS);
+		assertTrue(failed.degraded());
+		assertNull(failed.safeRoute());
+		assertEquals(5_600, failed.originalRoute().routes().get(0).summary().distance());
+
+		waypointResponder = request -> CompletableFuture.completedFuture(request.origin().y() == LATITUDE
+			? chunkRoute(request)
+			: new KakaoWalkingDirectionsResponse("not-found", List.of(new KakaoWalkingDirectionsResponse.Route(
+				104, "길찾기 결과를 찾을 수 없음", null, null))));
+		// 출발지를 바꿔 첫 요청과 합쳐지지 않도록
+		SafeRouteResponse notFound = service.generateSafeRoute(request(5_600, 50)).get(5, TimeUnit.SECONDS);
+		assertTrue(notFound.degraded());
+		assertNull(notFound.safeRoute());
+
+		assertEquals(2.0, meterRegistry.get("kakao.resilience.fallback").tag("type", "original_route")
+			.counter().count());
+	}
+
+	// 후보 비교를 켜면 네 전략이 서로 다른 경유지를 고르지만, 구간 호출까지 센 호출 수 상한을 넘는 후보는 요청하지 않는다.
+	@Test
+	void candidateCallsAreCappedByMaxCalls() throws Exception {
+		waypointResponder = request -> CompletableFuture.completedFuture(candidateRoute(request));
+
+		SafeRouteResponse uncapped = withCandidates(service(2_500), 6, Duration.ofMillis(300))
+			.generateSafeRoute(request(2_500)).get(5, TimeUnit.SECONDS);
+		assertEquals(4, waypointRequests().size());
+		assertEquals(3, uncapped.alternatives().size());
+
+		requests.clear();
+		SafeRouteResponse capped = withCandidates(service(2_500), 2, Duration.ofMillis(300))
+			.generateSafeRoute(request(2_500)).get(5, TimeUnit.SECONDS);
+		assertEquals(2, waypointRequests().size());
+		assertEquals(1, capped.alternatives().size());
+	}
+
+	// 첫 후보가 도착한 뒤 grace 안에 도착한 후보만 비교하고, 나머지는 기다리지 않고 늦은 후보로 센다.
+	@Test
+	void candidatesArrivingAfterGraceAreDropped() throws Exception {
+		Duration grace = Duration.ofMillis(300);
+		SafeRouteService service = withCandidates(service(2_500), 6, grace);
+		List<CompletableFuture<KakaoWalkingDirectionsResponse>> pending = new CopyOnWriteArrayList<>();
+		waypointResponder = request -> switch (waypointRequests().size()) {
+			case 1 -> CompletableFuture.completedFuture(candidateRoute(request));
+			case 2 -> CompletableFuture.supplyAsync(() -> candidateRoute(request),
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+			default -> {
+				CompletableFuture<KakaoWalkingDirectionsResponse> late = new CompletableFuture<>();
+				pending.add(late);
+				yield late;
+			}
+		};
+
+		long start = System.nanoTime();
+		SafeRouteResponse response = service.generateSafeRoute(request(2_500)).get(5, TimeUnit.SECONDS);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsedMillis >= grace.toMillis(), "answered after " + elapsedMillis + "ms");
+		assertEquals(2, pending.size());
+		assertFalse(response.degraded());
+		List<String> answered = new ArrayList<>();
+		answered.add(response.safeRoute().transId());
+		response.alternatives().forEach(alternative -> answered.add(alternative.route().transId()));
+		assertEquals(List.of("candidate-1", "candidate-2"), answered.stream().sorted().toList());
+		assertEquals(2.0, meterRegistry.get("safe.route.candidates.late").counter().count());
+
+		// 늦게 도착한 후보는 이미 보낸 응답과 카운터를 바꾸지 않는다.
+		List<WalkingWaypointsRequest> lateRequests = waypointRequests().subList(2, 4);
+		for (int i = 0; i < pending.size(); i++) {
+			pending.get(i).complete(candidateRoute(lateRequests.get(i)));
+		}
+		assertEquals(2.0, meterRegistry.get("safe.route.candidates.late").counter().count());
+	}
+
+	// 성공한 후보가 없으면 grace 없이 모든 후보가 끝날 때까지 기다리고, 가장 먼저 실패한 원인을 남긴 채 기본 경로로 응답
+	@Test
+	@ExtendWith(OutputCaptureExtension.class)
+	void firstCandidateFailureIsKept(CapturedOutput output) throws Exception {
+		SafeRouteService service = withCandidates(service(2_500), 6, Duration.ofMillis(300));
+		List<CompletableFuture<KakaoWalkingDirectionsResponse>> pending = new CopyOnWriteArrayList<>();
+		waypointResponder = request -> {
+			CompletableFuture<KakaoWalkingDirectionsResponse> route = new CompletableFuture<>();
+			pending.add(route);
+			return route;
+		};
+
+		CompletableFuture<SafeRouteResponse> result = service.generateSafeRoute(request(2_500));
+		awaitPending(pending, 4);
+		// 마지막에 요청한 후보가 먼저 실패
+		pending.get(3).completeExceptionally(new IllegalStateException("first candidate failure"));
+		for (int i = 0; i < 3; i++) {
+			assertFalse(result.isDone());
+			pending.get(i).completeExceptionally(new IllegalStateException("later candidate failure"));
+		}
+
+		SafeRouteResponse response = result.get(5, TimeUnit.SECONDS);
+		assertTrue(response.degraded());
+		assertNull(response.safeRoute());
+		assertTrue(output.getOut().contains("falling back to original route: first candidate failure"));
+		assertFalse(output.getOut().contains("falling back to original route: later candidate failure"));
+	}
+
+	// 설정값은 @Value 기본값과 같게, 후보 비교는 끄고 균등 간격 후보 하나만 요청
+	private SafeRouteService service(int routeMeters) {
+		List<FacilityPoint> facilities = new ArrayList<>();
+		for (int i = 1; i * FACILITY_SPACING_METERS < routeMeters; i++) {
+			double latitude = LATITUDE + GeoDistance.metersToLatitudeDegrees(i * FACILITY_SPACING_METERS);
+			// 세 개마다 경로에 붙은 CCTV, 30m 떨어진 파출소, 60m 떨어진 가로등
+			SafetyFacilityType type = new SafetyFacilityType[] {SafetyFacilityType.CCTV,
+				SafetyFacilityType.POLICE_SUBSTATION, SafetyFacilityType.STREETLAMP}[i % 3];
+			double offset = new double[] {10, 30, 60}[i % 3];
+			facilities.add(new FacilityPoint(i, type, latitude,
+				LONGITUDE + GeoDistance.metersToLongitudeDegrees(offset, latitude)));
+		}
+		when(repository.findAllFacilityPoints()).thenReturn(facilities);
+		SafetyFacilityIndex index = new SafetyFacilityIndex(repository);
+		index.rebuild();
+
+		SafeRouteService service = new SafeRouteService(this::findRoute, repository, index,
+			new SafeRouteCoalescer(meterRegistry, 10), meterRegistry);
+		ReflectionTestUtils.setField(service, "coverageRadiusMeters", 30.0);
+		ReflectionTestUtils.setField(service, "coverageThreshold", 0.8);
+		ReflectionTestUtils.setField(service, "maxCandidates", 4);
+		ReflectionTestUtils.setField(service, "detourPenalty", 0.5);
+		ReflectionTestUtils.setField(service, "maxCandidateCalls", 6);
+		ReflectionTestUtils.setField(service, "candidateGrace", Duration.ofMillis(300));
+		ReflectionTestUtils.setField(service, "optimizerTimeLimit", Duration.ofMillis(50));
+		service.registerMetrics();
+		return service;
+	}
+
+	// 전략별 후보 경로를 동시에 요청하도록, 호출 수 상한과 첫 후보 뒤 대기 시간 지정
+	private static SafeRouteService withCandidates(SafeRouteService service, int maxCalls, Duration grace) {
+		ReflectionTestUtils.setField(service, "candidatesEnabled", true);
+		ReflectionTestUtils.setField(service, "maxCandidateCalls", maxCalls);
+		ReflectionTestUtils.setField(service, "candidateGrace", grace);
+		return service;
+	}
+
+	// 경유지 없는 요청은 기본 경로, 경유지 요청은 waypointResponder가 응답
+	private CompletableFuture<KakaoWalkingDirectionsResponse> findRoute(WalkingWaypointsRequest request) {
+		requests.add(request);
+		if (request.waypoints().isEmpty()) {
+			double destinationLatitude = request.destination().y();
+			int meters = (int)Math.round(GeoDistance.haversine(LATITUDE, LONGITUDE, destinationLatitude, LONGITUDE));
+			return CompletableFuture.completedFuture(route("original", meters, meters,
+				List.of(request.origin(), request.destination())));
+		}
+		return waypointResponder.apply(request);
+	}
+
+	private List<WalkingWaypointsRequest> waypointRequests() {
+		return requests.stream().filter(request -> !request.waypoints().isEmpty()).toList();
+	}
+
+	// 출발지, 경유지, 목적지를 차례로 잇는 구간 경로 (거리와 시간은 구간마다 다르게)
+	private static KakaoWalkingDirectionsResponse chunkRoute(WalkingWaypointsRequest request) {
+		List<WalkingWaypointsRequest.Coordinate> points = new ArrayList<>();
+		points.add(request.origin());
+		points.addAll(request.waypoints());
+		points.add(request.destination());
+		return route(transId(request), distance(request), duration(request), points);
+	}
+
+	// 몇 번째 경유지 요청에 대한 응답인지 trans_id로 구분하는 후보 경로
+	private KakaoWalkingDirectionsResponse candidateRoute(WalkingWaypointsRequest request) {
+		KakaoWalkingDirectionsResponse route = chunkRoute(request);
+		return new KakaoWalkingDirectionsResponse("candidate-" + (waypointRequests().indexOf(request) + 1),
+			route.routes());
+	}
+
+	// 비동기 단계에서 후보 경로 요청이 모두 나갈 때까지 기다린다.
+	private static void awaitPending(List<?> pending, int size) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (pending.size() < size) {
+			assertTrue(System.nanoTime() < deadline, "pending " + pending.size());
+			Thread.sleep(1);
+		}
+		assertEquals(size, pending.size());
+	}
+
+	private static String transId(WalkingWaypointsRequest request) {
+		return "chunk-" + request.origin().y();
+	}
+
+	private static int distance(WalkingWaypointsRequest request) {
+		return 1_000 + 100 * request.waypoints().size();
+	}
+
+	private static int duration(WalkingWaypointsRequest request) {
+		return 700 + 70 * request.waypoints().size();
+	}
+
+	private static KakaoWalkingDirectionsResponse route(String transId, int distance, int duration,
+		List<WalkingWaypointsRequest.Coordinate> points) {
+		double[] vertexes = new double[points.size() * 2];
+		for (int i = 0; i < points.size(); i++) {
+			vertexes[i * 2] = points.get(i).x();
+			vertexes[i * 2 + 1] = points.get(i).y();
+		}
+		var road = new KakaoWalkingDirectionsResponse.Road(distance, duration, vertexes);
+		var section = new KakaoWalkingDirectionsResponse.Section(distance, duration, List.of(road));
+		return new KakaoWalkingDirectionsResponse(transId, List.of(new KakaoWalkingDirectionsResponse.Route(0,
+			"길찾기 성공", new KakaoWalkingDirectionsResponse.Summary(distance, duration), List.of(section))));
+	}
+
+	// 북쪽으로 routeMeters 떨어진 목적지
+	private static SafeRouteRequest request(int routeMeters) {
+		return request(routeMeters, 0);
+	}
+
+	// 출발지만 동쪽으로 originShiftMeters 옮긴 요청 (single-flight 키를 바꿀 때)
+	private static SafeRouteRequest request(int routeMeters, double originShiftMeters) {
+		return new SafeRouteRequest(LATITUDE, LONGITUDE + GeoDistance.metersToLongitudeDegrees(originShiftMeters,
+			LATITUDE), LATITUDE + GeoDistance.metersToLatitudeDegrees(routeMeters), LONGITUDE, null, null, null);
+	}
+}
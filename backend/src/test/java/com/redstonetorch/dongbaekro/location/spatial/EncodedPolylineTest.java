@@ -0,0 +1,45 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class EncodedPolylineTest {
+
+	// Google polyline 알고리즘 문서의 예제: (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)
+	private static final String SPEC_EXAMPLE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+	@Test
+	void decodesSpecExampleWithPrecisionFive() {
+		assertArrayEquals(new double[] {-120.2, 38.5, -120.95, 40.7, -126.453, 43.252},
+			EncodedPolyline.decode(SPEC_EXAMPLE, 5), 1e-9);
+	}
+
+	@Test
+	void decodesSpecExampleWithPrecisionSix() {
+		assertArrayEquals(new double[] {-12.02, 3.85, -12.095, 4.07, -12.6453, 4.3252},
+			EncodedPolyline.decode(SPEC_EXAMPLE, 6), 1e-9);
+	}
+
+	@Test
+	void decodesEmptyString() {
+		assertEquals(0, EncodedPolyline.decode("", 5).length);
+	}
+
+	@Test
+	void rejectsTruncatedString() {
+		String truncated = SPEC_EXAMPLE.substring(0, SPEC_EXAMPLE.length() - 1);
+		assertThrows(IllegalArgumentException.class, () -> EncodedPolyline.decode(truncated, 5));
+	}
+
+	@Test
+	void rejectsLatitudeWithoutLongitude() {
+		// 첫 좌표의 위도("_p~iF")만 있고 경도가 없음
+		assertThrows(IllegalArgumentException.class, () -> EncodedPolyline.decode("_p~iF", 5));
+	}
+
+	@Test
+	void rejectsCharactersOutsideAlphabet() {
+		assertThrows(IllegalArgumentException.class, () -> EncodedPolyline.decode("_p~iF ps|U", 5));
+	}
+}
@@ -0,0 +1,58 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// 임의 점 쌍 200만 개로 haversine 대비 최대 상대 오차를 확인하고 거리 계산 비용을 비교 (./gradlew benchmark)
+@Tag("benchmark")
+class LocalPlaneBenchmark {
+
+	private static final int CALLS = 1_000_000;
+	private static final int ROUNDS = 10;
+
+	@Test
+	void errorBoundAndCostAgainstHaversine() {
+		double koreaError = 0;
+		double worldError = 0;
+		for (int i = 0; i < 10; i++) {
+			koreaError = Math.max(koreaError, LocalPlaneTest.maxRelativeError(new Random(i), 33, 39));
+			worldError = Math.max(worldError, LocalPlaneTest.maxRelativeError(new Random(100 + i), 0, 60));
+		}
+		assertTrue(koreaError <= 0.0015);
+		assertTrue(worldError <= 0.003);
+
+		Random random = new Random(1L);
+		double[] coordinates = new double[CALLS * 2];
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = 37.45 + random.nextDouble() * 0.1;
+			coordinates[i + 1] = 126.9 + random.nextDouble() * 0.1;
+		}
+		LocalPlane plane = LocalPlane.at(37.5);
+
+		double sink = 0;
+		long haversineNanos = Long.MAX_VALUE;
+		long planeNanos = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < coordinates.length; i += 2) {
+				sink += GeoDistance.haversine(37.5, 126.95, coordinates[i], coordinates[i + 1]);
+			}
+			haversineNanos = Math.min(haversineNanos, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			for (int i = 0; i < coordinates.length; i += 2) {
+				sink += plane.distanceSquared(37.5, 126.95, coordinates[i], coordinates[i + 1]);
+			}
+			planeNanos = Math.min(planeNanos, System.nanoTime() - start);
+		}
+		assertTrue(sink > 0);
+
+		System.out.printf("LocalPlane max relative error: lat 33-39 %.3f%%, lat 0-60 %.3f%%; "
+				+ "haversine %.1f ns/op, distanceSquared %.1f ns/op%n",
+			koreaError * 100, worldError * 100, (double)haversineNanos / CALLS, (double)planeNanos / CALLS);
+	}
+}
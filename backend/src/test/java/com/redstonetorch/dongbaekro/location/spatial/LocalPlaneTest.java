@@ -0,0 +1,60 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LocalPlaneTest {
+
+	private static final double RANGE_METERS = 10_000;
+	private static final int PAIRS = 200_000;
+
+	@Test
+	void errorWithinDocumentedBoundInKorea() {
+		assertTrue(maxRelativeError(new Random(10L), 33, 39) <= 0.0015);
+	}
+
+	@Test
+	void errorWithinDocumentedBoundUpToSixtyDegrees() {
+		assertTrue(maxRelativeError(new Random(60L), 0, 60) <= 0.003);
+	}
+
+	@Test
+	void projectionRatioIsClampedToSegment() {
+		LocalPlane plane = LocalPlane.at(37.5);
+		assertEquals(0.5, plane.projectionRatio(37.501, 127.001, 37.5, 127.0, 37.5, 127.002), 1e-9);
+		assertEquals(0.0, plane.projectionRatio(37.5, 126.99, 37.5, 127.0, 37.5, 127.002));
+		assertEquals(1.0, plane.projectionRatio(37.5, 127.01, 37.5, 127.0, 37.5, 127.002));
+		assertEquals(0.0, plane.projectionRatio(37.6, 127.1, 37.5, 127.0, 37.5, 127.0));
+	}
+
+	// 기준 위도에서 10km 이내의 임의 두 점에 대해 haversine 대비 최대 상대 오차
+	static double maxRelativeError(Random random, double minLatitude, double maxLatitude) {
+		double maxError = 0;
+		for (int i = 0; i < PAIRS; i++) {
+			double referenceLat = minLatitude + random.nextDouble() * (maxLatitude - minLatitude);
+			double referenceLng = 124 + random.nextDouble() * 8;
+			double[] first = pointNear(random, referenceLat, referenceLng);
+			double[] second = pointNear(random, referenceLat, referenceLng);
+			double exact = GeoDistance.haversine(first[0], first[1], second[0], second[1]);
+			if (exact < 1) {
+				continue;
+			}
+			double approximate = LocalPlane.at(referenceLat).distance(first[0], first[1], second[0], second[1]);
+			maxError = Math.max(maxError, Math.abs(approximate - exact) / exact);
+		}
+		return maxError;
+	}
+
+	private static double[] pointNear(Random random, double referenceLat, double referenceLng) {
+		double metersPerDegree = Math.PI * GeoDistance.EARTH_RADIUS_METERS / 180;
+		double bearing = random.nextDouble() * 2 * Math.PI;
+		double meters = Math.sqrt(random.nextDouble()) * RANGE_METERS;
+		double lat = referenceLat + meters * Math.cos(bearing) / metersPerDegree;
+		double lng = referenceLng
+			+ meters * Math.sin(bearing) / (metersPerDegree * Math.cos(Math.toRadians(referenceLat)));
+		return new double[] {lat, lng};
+	}
+}
@@ -0,0 +1,99 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+
+class RouteCoverageTest {
+
+	private static final double ROUTE_LENGTH = 1000;
+	private static final int CCTV = SafetyFacilityType.CCTV.ordinal();
+	private static final int STREETLAMP = SafetyFacilityType.STREETLAMP.ordinal();
+
+	// 겹치는 구간, 포함되는 구간, 같은 시설이 두 번 나오는 구간, 서로 다른 타입이 섞인 경우 (시작점 순서는 일부러 섞음)
+	// CCTV:       [100,200] #1, [150,300] #2, [250,260] #5 (포함), [400,420] #1 (같은 시설)
+	// STREETLAMP: [120,180] #3 (CCTV 구간 안), [500,700] #4
+	private static List<RouteCoverage.Interval> intervals() {
+		return new ArrayList<>(List.of(
+			new RouteCoverage.Interval(500, 700, STREETLAMP, 4),
+			new RouteCoverage.Interval(150, 300, CCTV, 2),
+			new RouteCoverage.Interval(400, 420, CCTV, 1),
+			new RouteCoverage.Interval(120, 180, STREETLAMP, 3),
+			new RouteCoverage.Interval(250, 260, CCTV, 5),
+			new RouteCoverage.Interval(100, 200, CCTV, 1)
+		));
+	}
+
+	@Test
+	void sweepsEachTypeSeparately() {
+		RouteCoverage coverage = RouteCoverage.sweep(ROUTE_LENGTH, intervals(), null);
+
+		// [100,300] + [400,420], 공백 100 / 100 / 도착지까지 580
+		RouteCoverage.Lane cctv = coverage.forType(SafetyFacilityType.CCTV);
+		assertEquals(220.0, cctv.coveredMeters(), 1e-9);
+		assertEquals(0.22, cctv.coveredRatio(), 1e-9);
+		assertEquals(580.0, cctv.longestGapMeters(), 1e-9);
+		assertEquals(3, cctv.facilityCount());
+
+		// [120,180] + [500,700], 공백 120 / 320 / 300
+		RouteCoverage.Lane streetlamp = coverage.forType(SafetyFacilityType.STREETLAMP);
+		assertEquals(260.0, streetlamp.coveredMeters(), 1e-9);
+		assertEquals(320.0, streetlamp.longestGapMeters(), 1e-9);
+		assertEquals(2, streetlamp.facilityCount());
+
+		RouteCoverage.Lane police = coverage.forType(SafetyFacilityType.POLICE_SUBSTATION);
+		assertEquals(0.0, police.coveredMeters(), 1e-9);
+		assertEquals(ROUTE_LENGTH, police.longestGapMeters(), 1e-9);
+		assertEquals(0, police.facilityCount());
+	}
+
+	@Test
+	void combinedIsUnionOfAllTypesWithoutMask() {
+		RouteCoverage.Lane combined = RouteCoverage.sweep(ROUTE_LENGTH, intervals(), null).combined();
+
+		// [100,300] + [400,420] + [500,700], 마지막 공백은 도착지까지 300
+		assertEquals(420.0, combined.coveredMeters(), 1e-9);
+		assertEquals(0.42, combined.coveredRatio(), 1e-9);
+		assertEquals(300.0, combined.longestGapMeters(), 1e-9);
+		assertEquals(5, combined.facilityCount());
+	}
+
+	@Test
+	void combinedFollowsTypeMask() {
+		boolean[] mask = new boolean[SafetyFacilityType.values().length];
+		mask[STREETLAMP] = true;
+
+		RouteCoverage coverage = RouteCoverage.sweep(ROUTE_LENGTH, intervals(), mask);
+
+		assertEquals(coverage.forType(SafetyFacilityType.STREETLAMP), coverage.combined());
+		// 타입별 결과는 마스크와 관계없음
+		assertEquals(220.0, coverage.forType(SafetyFacilityType.CCTV).coveredMeters(), 1e-9);
+	}
+
+	@Test
+	void fullyCoveredRouteHasNoGap() {
+		List<RouteCoverage.Interval> intervals = new ArrayList<>(List.of(
+			new RouteCoverage.Interval(0, 600, CCTV, 1),
+			new RouteCoverage.Interval(600, ROUTE_LENGTH, CCTV, 2)
+		));
+
+		RouteCoverage.Lane combined = RouteCoverage.sweep(ROUTE_LENGTH, intervals, null).combined();
+
+		assertEquals(1.0, combined.coveredRatio(), 1e-9);
+		assertEquals(0.0, combined.longestGapMeters(), 1e-9);
+	}
+
+	@Test
+	void emptyRouteIsUncovered() {
+		RouteCoverage.Lane combined = RouteCoverage.sweep(0, new ArrayList<>(), null).combined();
+
+		assertEquals(0.0, combined.coveredRatio(), 1e-9);
+		assertEquals(0.0, combined.longestGapMeters(), 1e-9);
+		assertEquals(0, combined.facilityCount());
+	}
+}
@@ -0,0 +1,77 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+
+// 시설 100만 개(서울 크기 영역)에서 인덱스 적재 시간과 100m 반경 검색 시간을 전체 훑기와 비교 (./gradlew benchmark)
+@Tag("benchmark")
+class SafetyFacilityIndexBenchmark {
+
+	private static final int FACILITY_COUNT = 1_000_000;
+	private static final double RADIUS_METERS = 100;
+	private static final int WARMUP_QUERIES = 20_000;
+	private static final int MEASURED_QUERIES = 100_000;
+	private static final int SCAN_QUERIES = 20;
+
+	@Test
+	void radiusQueryAgainstFullScan() {
+		Random random = new Random(1L);
+		SafetyFacilityType[] types = SafetyFacilityType.values();
+		List<FacilityPoint> points = new ArrayList<>(FACILITY_COUNT);
+		for (int i = 0; i < FACILITY_COUNT; i++) {
+			points.add(new FacilityPoint(i + 1, types[random.nextInt(types.length)],
+				37.43 + random.nextDouble() * 0.27, 126.76 + random.nextDouble() * 0.42));
+		}
+		SafetyFacilityRepository repository = mock(SafetyFacilityRepository.class);
+		when(repository.findAllFacilityPoints()).thenReturn(points);
+		SafetyFacilityIndex index = new SafetyFacilityIndex(repository);
+
+		long buildStart = System.nanoTime();
+		index.rebuild();
+		long buildNanos = System.nanoTime() - buildStart;
+
+		double[][] queries = new double[WARMUP_QUERIES + MEASURED_QUERIES][];
+		for (int i = 0; i < queries.length; i++) {
+			queries[i] = new double[] {37.45 + random.nextDouble() * 0.23, 126.78 + random.nextDouble() * 0.38};
+		}
+
+		long found = 0;
+		for (int i = 0; i < WARMUP_QUERIES; i++) {
+			found += index.findWithinRadius(queries[i][0], queries[i][1], RADIUS_METERS, null).size();
+		}
+		long queryStart = System.nanoTime();
+		for (int i = WARMUP_QUERIES; i < queries.length; i++) {
+			found += index.findWithinRadius(queries[i][0], queries[i][1], RADIUS_METERS, null).size();
+		}
+		long queryNanos = System.nanoTime() - queryStart;
+
+		// 기존 정점별 DB 조회(전체 행 구면 거리 계산)에 해당하는 메모리 전체 훑기
+		long scanStart = System.nanoTime();
+		long scanned = 0;
+		for (int i = 0; i < SCAN_QUERIES; i++) {
+			for (FacilityPoint point : points) {
+				if (GeoDistance.haversine(queries[i][0], queries[i][1], point.latitude(), point.longitude())
+					<= RADIUS_METERS) {
+					scanned++;
+				}
+			}
+		}
+		long scanNanos = System.nanoTime() - scanStart;
+		assertTrue(scanned > 0);
+
+		System.out.printf("STR-tree over %,d facilities: build %d ms, radius %.0fm query %.2f us/op "
+				+ "(%.1f results/op), full scan %.1f ms/op%n",
+			FACILITY_COUNT, buildNanos / 1_000_000, RADIUS_METERS, queryNanos / 1_000.0 / MEASURED_QUERIES,
+			(double)found / queries.length, scanNanos / 1_000_000.0 / SCAN_QUERIES);
+	}
+}
@@ -0,0 +1,145 @@
+package com.redstonetorch.dongbaekro.location.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.redstonetorch.dongbaekro.common.enums.SafetyFacilityType;
+import com.redstonetorch.dongbaekro.location.repository.SafetyFacilityRepository;
+
+// STR-tree 인덱스 검색 결과가 전체 시설을 직접 훑은 결과와 같은지 무작위 좌표로 확인
+class SafetyFacilityIndexTest {
+
+	// 서울 크기의 영역
+	private static final double MIN_LATITUDE = 37.43;
+	private static final double MAX_LATITUDE = 37.70;
+	private static final double MIN_LONGITUDE = 126.76;
+	private static final double MAX_LONGITUDE = 127.18;
+	private static final SafetyFacilityType[] TYPES = SafetyFacilityType.values();
+
+	private final Random random = new Random(20240501L);
+
+	@Test
+	void radiusSearchMatchesBruteForce() {
+		List<FacilityPoint> points = randomPoints(20_000);
+		SafetyFacilityIndex index = indexOf(points);
+
+		for (int query = 0; query < 500; query++) {
+			double latitude = randomLatitude();
+			double longitude = randomLongitude();
+			double radius = new double[] {30, 100, 300, 1000}[query % 4];
+			Set<SafetyFacilityType> types = query % 3 == 0 ? null : randomTypes();
+
+			List<FacilityPoint> expected = bruteForceRadius(points, latitude, longitude, radius, types);
+			List<FacilityPoint> actual = index.findWithinRadius(latitude, longitude, radius, types);
+
+			// 가까운 순 정렬까지 같아야 한다.
+			assertEquals(ids(expected), ids(actual), "radius query " + query);
+		}
+	}
+
+	@Test
+	void boundsSearchMatchesBruteForce() {
+		List<FacilityPoint> points = randomPoints(20_000);
+		SafetyFacilityIndex index = indexOf(points);
+
+		for (int query = 0; query < 500; query++) {
+			double latitude1 = randomLatitude();
+			double latitude2 = latitude1 + random.nextDouble() * 0.02;
+			double longitude1 = randomLongitude();
+			double longitude2 = longitude1 + random.nextDouble() * 0.02;
+			Set<SafetyFacilityType> types = query % 3 == 0 ? null : randomTypes();
+
+			List<Long> expected = points.stream()
+				.filter(point -> point.latitude() >= latitude1 && point.latitude() <= latitude2
+					&& point.longitude() >= longitude1 && point.longitude() <= longitude2)
+				.filter(point -> types == null || types.contains(point.type()))
+				.map(FacilityPoint::id)
+				.sorted()
+				.toList();
+			List<Long> actual = index.findWithinBounds(latitude1, longitude1, latitude2, longitude2, types).stream()
+				.map(FacilityPoint::id)
+				.sorted()
+				.toList();
+
+			assertEquals(expected, actual, "bounds query " + query);
+		}
+	}
+
+	@Test
+	void handlesDuplicateCoordinatesAndTinyTrees() {
+		// 같은 좌표에 시설이 여러 개 있어도 모두 반환
+		List<FacilityPoint> points = new ArrayList<>();
+		for (long id = 1; id <= 40; id++) {
+			points.add(new FacilityPoint(id, TYPES[(int)(id % TYPES.length)], 37.5, 127.0));
+		}
+		SafetyFacilityIndex index = indexOf(points);
+		assertEquals(40, index.findWithinRadius(37.5, 127.0, 1, null).size());
+
+		SafetyFacilityIndex single = indexOf(List.of(new FacilityPoint(7, SafetyFacilityType.CCTV, 37.5, 127.0)));
+		assertEquals(List.of(7L), ids(single.findWithinRadius(37.5001, 127.0, 50, null)));
+		assertTrue(single.findWithinRadius(37.6, 127.0, 50, null).isEmpty());
+
+		SafetyFacilityIndex empty = indexOf(List.of());
+		assertTrue(empty.findWithinRadius(37.5, 127.0, 1000, null).isEmpty());
+		assertTrue(empty.findWithinBounds(37.0, 126.0, 38.0, 128.0, null).isEmpty());
+	}
+
+	// 인덱스와 같은 평면 근사(조회 지점 위도 기준)로 거리를 계산해야 경계의 시설까지 일치한다.
+	private List<FacilityPoint> bruteForceRadius(List<FacilityPoint> points, double latitude, double longitude,
+		double radius, Set<SafetyFacilityType> types) {
+		LocalPlane plane = LocalPlane.at(latitude);
+		return points.stream()
+			.filter(point -> types == null || types.contains(point.type()))
+			.filter(point -> plane.distanceSquared(latitude, longitude, point.latitude(), point.longitude())
+				<= radius * radius)
+			.sorted(Comparator.comparingDouble(
+				point -> plane.distanceSquared(latitude, longitude, point.latitude(), point.longitude())))
+			.toList();
+	}
+
+	private SafetyFacilityIndex indexOf(List<FacilityPoint> points) {
+		SafetyFacilityRepository repository = mock(SafetyFacilityRepository.class);
+		when(repository.findAllFacilityPoints()).thenReturn(points);
+		SafetyFacilityIndex index = new SafetyFacilityIndex(repository);
+		index.rebuild();
+		assertEquals(points.size(), index.size());
+		return index;
+	}
+
+	private List<FacilityPoint> randomPoints(int count) {
+		List<FacilityPoint> points = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			points.add(new FacilityPoint(i + 1, TYPES[random.nextInt(TYPES.length)],
+				randomLatitude(), randomLongitude()));
+		}
+		return points;
+	}
+
+	private Set<SafetyFacilityType> randomTypes() {
+		Set<SafetyFacilityType> types = EnumSet.noneOf(SafetyFacilityType.class);
+		types.add(TYPES[random.nextInt(TYPES.length)]);
+		types.add(TYPES[random.nextInt(TYPES.length)]);
+		return types;
+	}
+
+	private double randomLatitude() {
+		return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+	}
+
+	private double randomLongitude() {
+		return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+	}
+
+	private static List<Long> ids(List<FacilityPoint> points) {
+		return points.stream().map(FacilityPoint::id).toList();
+	}
+}